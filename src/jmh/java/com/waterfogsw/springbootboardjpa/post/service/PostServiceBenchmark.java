@@ -0,0 +1,107 @@
+package com.waterfogsw.springbootboardjpa.post.service;
+
+import com.waterfogsw.springbootboardjpa.SpringbootBoardJpaApplication;
+import com.waterfogsw.springbootboardjpa.post.entity.Post;
+import com.waterfogsw.springbootboardjpa.post.repository.dto.PostSummary;
+import com.waterfogsw.springbootboardjpa.post.service.dto.PostDraft;
+import com.waterfogsw.springbootboardjpa.user.entity.User;
+import com.waterfogsw.springbootboardjpa.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Runs {@link DefaultPostService} reads against an embedded H2 seeded with {@value #POSTS} posts,
+ * with and without the second-level cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PostServiceBenchmark {
+
+    private static final int USERS = 100;
+    private static final int POSTS = 10_000;
+
+    @Param({"true", "false"})
+    public boolean secondLevelCache;
+
+    private ConfigurableApplicationContext context;
+    private PostService postService;
+    private Pageable firstPage;
+    private long[] postIds;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(SpringbootBoardJpaApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=warn",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "spring.jpa.properties.hibernate.generate_statistics=false",
+                        "spring.jpa.properties.hibernate.cache.use_second_level_cache=" + secondLevelCache
+                )
+                .run();
+
+        postService = context.getBean(PostService.class);
+        firstPage = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+        postIds = seed(context.getBean(UserRepository.class));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Post getOne() {
+        final var postId = postIds[ThreadLocalRandom.current().nextInt(postIds.length)];
+        return postService.getOne(postId);
+    }
+
+    @Benchmark
+    public Slice<PostSummary> getAll() {
+        return postService.getAll(firstPage);
+    }
+
+    private long[] seed(UserRepository userRepository) {
+        final var users = userRepository.saveAll(IntStream.range(0, USERS)
+                .mapToObj(i -> User.builder()
+                        .name("user" + i)
+                        .email("user" + i + "@naver.com")
+                        .build())
+                .toList());
+
+        final var drafts = new ArrayList<PostDraft>(POSTS);
+        for (int i = 0; i < POSTS; i++) {
+            final var post = Post.builder()
+                    .title("title" + i)
+                    .content("content".repeat(100))
+                    .build();
+            drafts.add(new PostDraft(users.get(i % USERS).getId(), post));
+        }
+
+        return postService.addPosts(drafts).stream()
+                .mapToLong(Post::getId)
+                .toArray();
+    }
+}
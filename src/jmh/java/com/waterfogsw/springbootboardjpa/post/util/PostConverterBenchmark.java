@@ -0,0 +1,53 @@
+package com.waterfogsw.springbootboardjpa.post.util;
+
+import com.waterfogsw.springbootboardjpa.post.controller.dto.PostAddRequest;
+import com.waterfogsw.springbootboardjpa.post.controller.dto.PostResponse;
+import com.waterfogsw.springbootboardjpa.post.entity.Post;
+import com.waterfogsw.springbootboardjpa.user.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PostConverterBenchmark {
+
+    private PostConverter postConverter;
+    private Post post;
+    private PostAddRequest postAddRequest;
+
+    @Setup
+    public void setUp() {
+        postConverter = new PostConverter();
+
+        final var user = User.builder()
+                .name("benchmark")
+                .email("benchmark@naver.com")
+                .build();
+
+        post = Post.builder()
+                .title("benchmark")
+                .content("benchmark".repeat(200))
+                .build();
+        post.updateAuthor(user);
+
+        postAddRequest = new PostAddRequest("benchmark", "benchmark".repeat(200), 1L);
+    }
+
+    @Benchmark
+    public PostResponse toDto() {
+        return postConverter.toDto(post);
+    }
+
+    @Benchmark
+    public Post toEntity() {
+        return postConverter.toEntity(postAddRequest);
+    }
+}
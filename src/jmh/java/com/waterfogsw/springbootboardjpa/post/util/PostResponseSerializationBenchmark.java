@@ -0,0 +1,54 @@
+package com.waterfogsw.springbootboardjpa.post.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.waterfogsw.springbootboardjpa.post.controller.dto.PostResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Serializes a page of {@link PostResponse} the way the message converter does, with the
+ * Spring-configured {@link ObjectMapper}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PostResponseSerializationBenchmark {
+
+    @Param({"10", "100"})
+    public int size;
+
+    @Param({"200", "4000"})
+    public int contentLength;
+
+    private ObjectWriter writer;
+    private List<PostResponse> responses;
+
+    @Setup
+    public void setUp() {
+        final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, PostResponse.class));
+
+        final var content = "a".repeat(contentLength);
+        responses = LongStream.rangeClosed(1, size)
+                .mapToObj(version -> new PostResponse("benchmark", content, "benchmark", "benchmark@naver.com", version))
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] writeValueAsBytes() throws JsonProcessingException {
+        return writer.writeValueAsBytes(responses);
+    }
+}
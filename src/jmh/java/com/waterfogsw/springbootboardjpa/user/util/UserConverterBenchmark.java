@@ -0,0 +1,26 @@
+package com.waterfogsw.springbootboardjpa.user.util;
+
+import com.waterfogsw.springbootboardjpa.user.controller.dto.UserAddRequest;
+import com.waterfogsw.springbootboardjpa.user.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserConverterBenchmark {
+
+    private final UserConverter userConverter = new UserConverter();
+    private final UserAddRequest userAddRequest = new UserAddRequest("benchmark", "benchmark@naver.com", 20, "coding");
+
+    @Benchmark
+    public User toEntity() {
+        return userConverter.toEntity(userAddRequest);
+    }
+}
@@ -0,0 +1,10 @@
+package com.waterfogsw.springbootboardjpa.common.batch;
+
+/**
+ * An item of a batch request with its position in the body.
+ */
+public record BatchItem<T>(
+        int index,
+        T value
+) {
+}
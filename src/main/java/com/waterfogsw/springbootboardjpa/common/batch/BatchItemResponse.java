@@ -0,0 +1,12 @@
+package com.waterfogsw.springbootboardjpa.common.batch;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchItemResponse(
+        int index,
+        int status,
+        Long id,
+        String message
+) {
+}
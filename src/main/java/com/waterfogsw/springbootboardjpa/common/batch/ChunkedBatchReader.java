@@ -0,0 +1,144 @@
+package com.waterfogsw.springbootboardjpa.common.batch;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.Assert;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Reads a batch body, either a JSON array or NDJSON, as a stream and hands the valid items to a writer
+ * in chunks, so only one chunk is held in memory. Items failing bean validation get a 400 result and
+ * never reach the writer.
+ * <p>
+ * An item that is {@code null} or cannot be bound, such as a string where a number is expected, gets a
+ * 400 result and reading goes on with the next item. A syntax error ends the batch, since the stream
+ * cannot be read past it: the items before it are still written, and the results end with a 400 entry
+ * for that index saying the rest of the body was not processed.
+ * <p>
+ * A chunk whose write fails is reported as 500 for each of its items, and the following chunks are
+ * still written, so the results of chunks already committed are never lost.
+ */
+public class ChunkedBatchReader<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(ChunkedBatchReader.class);
+
+    private final ObjectReader objectReader;
+    private final Validator validator;
+    private final int chunkSize;
+
+    public ChunkedBatchReader(ObjectMapper objectMapper, Validator validator, Class<T> type, int chunkSize) {
+        Assert.isTrue(chunkSize > 0, "Chunk size should be positive");
+
+        this.objectReader = objectMapper.readerFor(type);
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+    }
+
+    public List<BatchItemResponse> read(
+            InputStream body,
+            Function<List<BatchItem<T>>, List<BatchItemResponse>> writer
+    ) throws IOException {
+        final var results = new ArrayList<BatchItemResponse>();
+        final var chunk = new ArrayList<BatchItem<T>>(chunkSize);
+        var index = 0;
+
+        try (final var items = objectReader.<T>readValues(body)) {
+            while (items.hasNextValue()) {
+                final var result = add(index, items, chunk);
+                if (result != null) {
+                    results.add(result);
+                }
+
+                if (chunk.size() == chunkSize) {
+                    results.addAll(write(chunk, writer));
+                    chunk.clear();
+                }
+                index++;
+            }
+        } catch (JsonProcessingException e) {
+            results.add(new BatchItemResponse(index, HttpStatus.BAD_REQUEST.value(), null,
+                    "Malformed item, the items after it were not processed"));
+        }
+
+        if (!chunk.isEmpty()) {
+            results.addAll(write(chunk, writer));
+        }
+        results.sort(Comparator.comparingInt(BatchItemResponse::index));
+        return results;
+    }
+
+    /**
+     * Adds the next item to the chunk, or returns its 400 result. Binding errors leave the iterator on
+     * the next item; syntax errors are rethrown.
+     */
+    private BatchItemResponse add(int index, MappingIterator<T> items, List<BatchItem<T>> chunk) throws IOException {
+        final T item;
+        try {
+            item = items.nextValue();
+        } catch (JsonMappingException e) {
+            return new BatchItemResponse(index, HttpStatus.BAD_REQUEST.value(), null, unreadable(e));
+        }
+
+        if (item == null) {
+            return new BatchItemResponse(index, HttpStatus.BAD_REQUEST.value(), null, "Item should not be null");
+        }
+
+        final var violations = validator.validate(item);
+        if (!violations.isEmpty()) {
+            return invalid(index, violations);
+        }
+
+        chunk.add(new BatchItem<>(index, item));
+        return null;
+    }
+
+    private List<BatchItemResponse> write(
+            List<BatchItem<T>> chunk,
+            Function<List<BatchItem<T>>, List<BatchItemResponse>> writer
+    ) {
+        try {
+            return writer.apply(List.copyOf(chunk));
+        } catch (RuntimeException e) {
+            log.error("Writing batch items {} to {} failed", chunk.get(0).index(), chunk.get(chunk.size() - 1).index(), e);
+            return chunk.stream()
+                    .map(item -> new BatchItemResponse(item.index(), HttpStatus.INTERNAL_SERVER_ERROR.value(), null,
+                            "Item was not written"))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static String unreadable(JsonMappingException e) {
+        final var path = e.getPath().stream()
+                .map(reference -> reference.getFieldName() != null
+                        ? reference.getFieldName()
+                        : String.valueOf(reference.getIndex()))
+                .collect(Collectors.joining("."));
+
+        return path.isEmpty() ? "Unreadable item" : path + ": unreadable value";
+    }
+
+    private BatchItemResponse invalid(int index, Set<ConstraintViolation<T>> violations) {
+        final var message = violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+
+        return new BatchItemResponse(index, HttpStatus.BAD_REQUEST.value(), null, message);
+    }
+}
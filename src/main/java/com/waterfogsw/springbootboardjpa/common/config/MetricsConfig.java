@@ -0,0 +1,43 @@
+package com.waterfogsw.springbootboardjpa.common.config;
+
+import com.waterfogsw.springbootboardjpa.common.metrics.ServiceMetricsAspect;
+import com.waterfogsw.springbootboardjpa.common.metrics.SqlStatementCounter;
+import com.waterfogsw.springbootboardjpa.common.metrics.SqlStatementMetricsInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.handler.MappedInterceptor;
+
+/**
+ * Application metrics on top of what Actuator binds on its own (HTTP, Spring Data repositories,
+ * Hibernate statistics): service timers and the number of SQL statements per request.
+ */
+@Configuration(proxyBeanMethods = false)
+public class MetricsConfig {
+
+    @Bean
+    public SqlStatementCounter sqlStatementCounter() {
+        return new SqlStatementCounter();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer(SqlStatementCounter sqlStatementCounter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlStatementCounter);
+    }
+
+    @Bean
+    public MappedInterceptor sqlStatementMetricsInterceptor(
+            SqlStatementCounter sqlStatementCounter,
+            MeterRegistry meterRegistry
+    ) {
+        return new MappedInterceptor(new String[]{"/api/**"},
+                new SqlStatementMetricsInterceptor(sqlStatementCounter, meterRegistry));
+    }
+
+    @Bean
+    public ServiceMetricsAspect serviceMetricsAspect(MeterRegistry meterRegistry) {
+        return new ServiceMetricsAspect(meterRegistry);
+    }
+}
@@ -0,0 +1,25 @@
+package com.waterfogsw.springbootboardjpa.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Scheduler that reactive endpoints use to call blocking JPA code. It has as many workers as the
+ * connection pool, so a worker never waits on Hikari and the number of threads does not grow with the
+ * number of subscribers.
+ */
+@Configuration(proxyBeanMethods = false)
+public class ReactorConfig {
+
+    private static final int QUEUED_TASK_CAP = 100_000;
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler jdbcScheduler(
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize
+    ) {
+        return Schedulers.newBoundedElastic(maximumPoolSize, QUEUED_TASK_CAP, "jdbc");
+    }
+}
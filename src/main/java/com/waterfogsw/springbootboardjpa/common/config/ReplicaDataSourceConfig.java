@@ -0,0 +1,83 @@
+package com.waterfogsw.springbootboardjpa.common.config;
+
+import com.waterfogsw.springbootboardjpa.common.datasource.ReplicaRoutingDataSource;
+import com.waterfogsw.springbootboardjpa.common.filter.ReadYourWritesFilter;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Splits reads from writes. Enabled with {@code board.datasource.mode=replicated}; the replicas are
+ * listed under {@code board.datasource.replicas[n]} with Hikari property names ({@code jdbc-url},
+ * {@code username}, {@code maximum-pool-size}, ...).
+ * <p>
+ * The primary is still configured through {@code spring.datasource.*}, and every component that
+ * injects a {@link DataSource} gets the routing proxy.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "board.datasource", name = "mode", havingValue = "replicated")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            Environment environment,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        final var replicas = Binder.get(environment)
+                .bind("board.datasource.replicas", Bindable.listOf(HikariConfig.class))
+                .orElseThrow(() -> new IllegalStateException("board.datasource.replicas should not be empty"))
+                .stream()
+                .<DataSource>map(config -> {
+                    // replica pools are not beans, so Boot does not instrument them like the primary
+                    meterRegistry.ifAvailable(registry ->
+                            config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+                    return new HikariDataSource(config);
+                })
+                .toList();
+
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(
+            @Value("${board.datasource.read-your-writes-window:5s}") Duration window
+    ) {
+        final var registration = new FilterRegistrationBean<>(new ReadYourWritesFilter(window, Clock.systemUTC()));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
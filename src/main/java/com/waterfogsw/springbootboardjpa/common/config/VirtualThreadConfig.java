@@ -0,0 +1,73 @@
+package com.waterfogsw.springbootboardjpa.common.config;
+
+import com.waterfogsw.springbootboardjpa.common.filter.ConcurrencyLimitFilter;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.lang.reflect.InvocationTargetException;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs Tomcat request handling, and with it the {@code @Transactional} service calls, on one virtual
+ * thread per request. Enabled with {@code board.threads.mode=virtual}.
+ * <p>
+ * Virtual threads remove the request thread as the limit, so the connection pool becomes it. In-flight
+ * API requests are capped at the Hikari pool size; the rest park cheaply instead of timing out inside
+ * Hikari.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "board.threads", name = "mode", havingValue = "virtual")
+public class VirtualThreadConfig implements WebMvcConfigurer, DisposableBean {
+
+    private final ExecutorService executor = newVirtualThreadPerTaskExecutor();
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(executor);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            @Value("${board.threads.virtual.max-concurrency:${spring.datasource.hikari.maximum-pool-size:10}}") int maxConcurrency,
+            @Value("${board.threads.virtual.acquire-timeout:30s}") Duration acquireTimeout
+    ) {
+        final var registration = new FilterRegistrationBean<>(new ConcurrencyLimitFilter(maxConcurrency, acquireTimeout));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(new TaskExecutorAdapter(executor));
+    }
+
+    /**
+     * Runs after the embedded server has stopped, so no new request can reach the executor.
+     */
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            final var factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (NoSuchMethodException | InvocationTargetException e) {
+            throw new IllegalStateException(
+                    "Virtual threads need JDK 21, or JDK 19/20 with --enable-preview", e);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Failed to create virtual thread executor", e);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.waterfogsw.springbootboardjpa.common.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Marks the current thread as pinned to the primary, so read-only transactions see the caller's own
+ * recent writes. Set per request by {@code ReadYourWritesFilter}; threads that the request hands work
+ * to, such as the reactive {@code jdbcScheduler}, do not inherit it.
+ */
+public final class ReadYourWritesContext {
+
+    private static final ThreadLocal<Boolean> PINNED = ThreadLocal.withInitial(() -> false);
+
+    private ReadYourWritesContext() {
+    }
+
+    public static void pinToPrimary() {
+        PINNED.set(true);
+    }
+
+    public static boolean isPinnedToPrimary() {
+        return PINNED.get();
+    }
+
+    public static void clear() {
+        PINNED.remove();
+    }
+
+    /**
+     * Runs {@code supplier} pinned to the primary and restores the previous state afterwards. For
+     * reads whose result outlives the request, such as a cache fill, where replica lag would be
+     * served long after the replica has caught up.
+     */
+    public static <T> T callOnPrimary(Supplier<T> supplier) {
+        final var pinned = isPinnedToPrimary();
+        pinToPrimary();
+        try {
+            return supplier.get();
+        } finally {
+            if (!pinned) {
+                clear();
+            }
+        }
+    }
+}
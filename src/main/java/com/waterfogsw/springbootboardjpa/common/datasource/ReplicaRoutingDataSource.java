@@ -0,0 +1,68 @@
+package com.waterfogsw.springbootboardjpa.common.datasource;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * Sends read-only transactions to the replicas in round-robin order and everything else to the
+ * primary. A thread pinned by {@link ReadYourWritesContext} always uses the primary.
+ * <p>
+ * The lookup key is resolved when the physical connection is taken, so this has to sit behind a
+ * {@code LazyConnectionDataSourceProxy}; otherwise the transaction manager takes the connection before
+ * the transaction is marked read-only.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    static final String PRIMARY = "primary";
+    private static final String REPLICA_PREFIX = "replica-";
+
+    private final List<DataSource> replicas;
+    private final List<String> replicaKeys;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas) {
+        Assert.notNull(primary, "Primary should not be null");
+        Assert.notEmpty(replicas, "Replicas should not be empty");
+
+        this.replicas = List.copyOf(replicas);
+        this.replicaKeys = IntStream.range(0, replicas.size())
+                .mapToObj(index -> REPLICA_PREFIX + index)
+                .toList();
+
+        final var targets = new HashMap<Object, Object>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            targets.put(replicaKeys.get(i), replicas.get(i));
+        }
+
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || ReadYourWritesContext.isPinnedToPrimary()) {
+            return PRIMARY;
+        }
+
+        return replicaKeys.get(Math.floorMod(next.getAndIncrement(), replicaKeys.size()));
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (final var replica : replicas) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.waterfogsw.springbootboardjpa.common.filter;
+
+import com.waterfogsw.springbootboardjpa.common.datasource.ReadYourWritesContext;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.Assert;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Pins a client to the primary for {@code window} after its last write. A request with an unsafe
+ * method sets a cookie holding the write time, since the response may already be committed once the
+ * handler returns; requests carrying a cookie younger than the window read from the primary.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE_NAME = "board-last-write";
+
+    private static final Set<String> SAFE_METHODS = Set.of(
+            HttpMethod.GET.name(), HttpMethod.HEAD.name(), HttpMethod.OPTIONS.name()
+    );
+
+    private final Duration window;
+    private final Clock clock;
+
+    public ReadYourWritesFilter(Duration window, Clock clock) {
+        Assert.isTrue(window != null && !window.isNegative(), "Window should not be negative");
+        Assert.notNull(clock, "Clock should not be null");
+
+        this.window = window;
+        this.clock = clock;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        final var now = clock.millis();
+
+        if (!SAFE_METHODS.contains(request.getMethod())) {
+            response.addCookie(lastWriteCookie(now));
+            ReadYourWritesContext.pinToPrimary();
+        } else if (isWithinWindow(request, now)) {
+            ReadYourWritesContext.pinToPrimary();
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWritesContext.clear();
+        }
+    }
+
+    private boolean isWithinWindow(HttpServletRequest request, long now) {
+        final var cookie = WebUtils.getCookie(request, COOKIE_NAME);
+        if (cookie == null) {
+            return false;
+        }
+
+        try {
+            final var lastWrite = Long.parseLong(cookie.getValue());
+            return now - lastWrite <= window.toMillis();
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private Cookie lastWriteCookie(long now) {
+        final var cookie = new Cookie(COOKIE_NAME, Long.toString(now));
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge((int) Math.max(1, (window.toMillis() + 999) / 1000));
+        return cookie;
+    }
+}
@@ -0,0 +1,48 @@
+package com.waterfogsw.springbootboardjpa.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Times every public service method, named and tagged like Spring Data's
+ * {@code spring.data.repository.invocations}. It runs outside the transaction advice, so commit
+ * time is included.
+ */
+@Aspect
+@Order(0)
+public class ServiceMetricsAspect {
+
+    static final String METRIC_NAME = "board.service.invocations";
+
+    private static final String NO_EXCEPTION = "None";
+
+    private final MeterRegistry meterRegistry;
+
+    public ServiceMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * com.waterfogsw.springbootboardjpa.post.service.PostService+.*(..))"
+            + " || execution(public * com.waterfogsw.springbootboardjpa.user.service.UserService+.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        final var sample = Timer.start(meterRegistry);
+        var exception = NO_EXCEPTION;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(METRIC_NAME)
+                    .description("Duration of service method invocations")
+                    .tag("service", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+}
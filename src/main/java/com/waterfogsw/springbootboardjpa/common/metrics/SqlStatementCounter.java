@@ -0,0 +1,32 @@
+package com.waterfogsw.springbootboardjpa.common.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread between {@link #start()} and
+ * {@link #stop()}. Statements outside such a window are passed through uncounted.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private final ThreadLocal<long[]> count = new ThreadLocal<>();
+
+    public void start() {
+        count.set(new long[1]);
+    }
+
+    public long stop() {
+        final var current = count.get();
+        count.remove();
+        return current == null ? 0 : current[0];
+    }
+
+    @Override
+    public String inspect(String sql) {
+        final var current = count.get();
+        if (current != null) {
+            current[0]++;
+        }
+
+        return sql;
+    }
+}
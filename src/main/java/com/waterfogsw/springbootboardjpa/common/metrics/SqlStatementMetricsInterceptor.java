@@ -0,0 +1,64 @@
+package com.waterfogsw.springbootboardjpa.common.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * Records how many SQL statements each request executed, tagged like {@code http.server.requests}.
+ * A jump for a single uri is usually an N+1.
+ * <p>
+ * The count is per thread, so requests that start async processing, such as the export and the
+ * reactive feeds, are not recorded: their statements run on other threads and would show up as 0.
+ */
+public class SqlStatementMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    static final String METRIC_NAME = "http.server.requests.sql.statements";
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final SqlStatementCounter sqlStatementCounter;
+    private final MeterRegistry meterRegistry;
+
+    public SqlStatementMetricsInterceptor(SqlStatementCounter sqlStatementCounter, MeterRegistry meterRegistry) {
+        this.sqlStatementCounter = sqlStatementCounter;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() != DispatcherType.ASYNC) {
+            sqlStatementCounter.start();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        sqlStatementCounter.stop();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        // the initial dispatch of an async request already stopped the counter
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return;
+        }
+
+        final var statements = sqlStatementCounter.stop();
+        final var uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+
+        DistributionSummary.builder(METRIC_NAME)
+                .description("SQL statements executed per request")
+                .baseUnit("statements")
+                .tag("method", request.getMethod())
+                .tag("uri", uri == null ? UNKNOWN_URI : uri.toString())
+                .register(meterRegistry)
+                .record(statements);
+    }
+}
@@ -0,0 +1,36 @@
+package com.waterfogsw.springbootboardjpa.post.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.waterfogsw.springbootboardjpa.post.service.PostService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Approximate number of posts. Only the first request counts synchronously; once the value is older
+ * than {@code refreshAfterWrite} the next read still returns it and triggers one background recount,
+ * so list requests never wait on a full count.
+ */
+@Component
+public class PostCountCache {
+
+    private static final String KEY = "total";
+
+    private final LoadingCache<String, Long> cache;
+
+    public PostCountCache(
+            PostService postService,
+            @Value("${board.cache.post-count.refresh-after-write:1m}") Duration refreshAfterWrite
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(1)
+                .refreshAfterWrite(refreshAfterWrite)
+                .build(key -> postService.count());
+    }
+
+    public long get() {
+        return cache.get(KEY);
+    }
+}
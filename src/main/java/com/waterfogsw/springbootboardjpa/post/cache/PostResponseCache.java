@@ -0,0 +1,107 @@
+package com.waterfogsw.springbootboardjpa.post.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.waterfogsw.springbootboardjpa.common.datasource.ReadYourWritesContext;
+import com.waterfogsw.springbootboardjpa.post.entity.Post;
+import com.waterfogsw.springbootboardjpa.post.event.PostUpdatedEvent;
+import com.waterfogsw.springbootboardjpa.post.repository.dto.PostVersion;
+import com.waterfogsw.springbootboardjpa.post.util.PostConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Serialized {@code PostResponse} bodies, weighted by their size in bytes.
+ * Concurrent misses for the same post share a single load. The load runs on the calling thread
+ * outside the cache's map lock, so a slow load never blocks reads or loads of other posts.
+ * <p>
+ * Loads are pinned to the primary: an entry evicted after an update would otherwise be refilled
+ * from a lagging replica and serve the old body and version until it expires.
+ */
+@Component
+public class PostResponseCache {
+
+    private final PostConverter postConverter;
+    private final ObjectMapper objectMapper;
+    private final AsyncCache<Long, RenderedPost> cache;
+
+    public PostResponseCache(
+            PostConverter postConverter,
+            ObjectMapper objectMapper,
+            @Value("${board.cache.post-response.maximum-bytes:67108864}") long maximumBytes,
+            @Value("${board.cache.post-response.expire-after-write:10m}") Duration expireAfterWrite
+    ) {
+        this.postConverter = postConverter;
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes)
+                .weigher((Long postId, RenderedPost renderedPost) -> renderedPost.body().length)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .buildAsync();
+    }
+
+    public RenderedPost get(long postId, Supplier<Post> loader) {
+        Assert.isTrue(postId > 0, "Post id should be positive");
+        Assert.notNull(loader, "Loader should not be null");
+
+        final var loading = new CompletableFuture<RenderedPost>();
+        final var future = cache.get(postId, (id, executor) -> loading);
+        if (future != loading) {
+            return join(future);
+        }
+
+        try {
+            final var renderedPost = render(postId, ReadYourWritesContext.callOnPrimary(loader));
+            loading.complete(renderedPost);
+            return renderedPost;
+        } catch (RuntimeException e) {
+            // a failed future is removed from the cache, so the next request loads again
+            loading.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public RenderedPost getIfPresent(long postId) {
+        return cache.synchronous().getIfPresent(postId);
+    }
+
+    public void invalidate(long postId) {
+        cache.synchronous().invalidate(postId);
+    }
+
+    @TransactionalEventListener
+    public void handlePostUpdated(PostUpdatedEvent event) {
+        invalidate(event.postId());
+    }
+
+    private static RenderedPost join(CompletableFuture<RenderedPost> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private RenderedPost render(long postId, Post post) {
+        try {
+            final var body = objectMapper.writeValueAsBytes(postConverter.toDto(post));
+            final var version = new PostVersion(postId, post.getVersion(), post.getUpdatedAt());
+            return new RenderedPost(postId, version, body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to render post", e);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.waterfogsw.springbootboardjpa.post.cache;
+
+import com.waterfogsw.springbootboardjpa.post.repository.dto.PostVersion;
+
+public record RenderedPost(
+        long postId,
+        PostVersion version,
+        byte[] body
+) {
+}
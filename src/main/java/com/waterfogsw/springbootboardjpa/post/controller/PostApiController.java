@@ -1,19 +1,35 @@
 package com.waterfogsw.springbootboardjpa.post.controller;
 
+import com.waterfogsw.springbootboardjpa.common.datasource.ReadYourWritesContext;
+import com.waterfogsw.springbootboardjpa.post.cache.PostCountCache;
+import com.waterfogsw.springbootboardjpa.post.cache.PostResponseCache;
 import com.waterfogsw.springbootboardjpa.post.controller.dto.PostAddRequest;
-import com.waterfogsw.springbootboardjpa.post.controller.dto.PostResponse;
+import com.waterfogsw.springbootboardjpa.post.controller.dto.PostCursorResponse;
+import com.waterfogsw.springbootboardjpa.post.controller.dto.PostSliceResponse;
+import com.waterfogsw.springbootboardjpa.post.controller.dto.PostSummaryResponse;
 import com.waterfogsw.springbootboardjpa.post.controller.dto.PostUpdateRequest;
+import com.waterfogsw.springbootboardjpa.post.repository.dto.PostSummary;
+import com.waterfogsw.springbootboardjpa.post.repository.dto.PostVersion;
 import com.waterfogsw.springbootboardjpa.post.service.PostService;
 import com.waterfogsw.springbootboardjpa.post.util.PostConverter;
+import com.waterfogsw.springbootboardjpa.post.util.PostCursor;
+import com.waterfogsw.springbootboardjpa.post.util.PostETag;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.Positive;
+import javax.validation.constraints.Size;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -24,10 +40,19 @@ public class PostApiController {
 
     private final PostConverter postConverter;
     private final PostService postService;
+    private final PostResponseCache postResponseCache;
+    private final PostCountCache postCountCache;
 
-    public PostApiController(PostConverter postConverter, PostService postService) {
+    public PostApiController(
+            PostConverter postConverter,
+            PostService postService,
+            PostResponseCache postResponseCache,
+            PostCountCache postCountCache
+    ) {
         this.postConverter = postConverter;
         this.postService = postService;
+        this.postResponseCache = postResponseCache;
+        this.postCountCache = postCountCache;
     }
 
     @PostMapping
@@ -42,26 +67,156 @@ public class PostApiController {
     @ResponseStatus(HttpStatus.OK)
     public void updatePost(
             @PathVariable @Positive long id,
-            @RequestBody @Valid PostUpdateRequest postUpdateRequest
+            @RequestBody @Valid PostUpdateRequest postUpdateRequest,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) {
         final var post = postConverter.toEntity(postUpdateRequest);
         final var userId = postUpdateRequest.userId();
-        postService.updatePost(userId, id, post);
+        final var expectedVersion = ifMatch == null ? null : PostETag.parseVersion(id, ifMatch);
+        postService.updatePost(userId, id, post, expectedVersion);
     }
 
+    /**
+     * Versions are only looked up ahead of the load when the request carries a validator; otherwise
+     * {@code ETag} and {@code Last-Modified} come from the post being returned. Like the cache fill,
+     * that lookup reads the primary, so a lagging replica cannot answer 304 for an updated post.
+     */
     @GetMapping("{id}")
-    public PostResponse getOne(@PathVariable @Positive long id) {
-        final var post = postService.getOne(id);
-        return postConverter.toDto(post);
+    public ResponseEntity<byte[]> getOne(@PathVariable @Positive long id, WebRequest webRequest) {
+        final var cachedPost = postResponseCache.getIfPresent(id);
+        if (cachedPost == null && isConditional(webRequest)
+                && isNotModified(ReadYourWritesContext.callOnPrimary(() -> postService.getVersion(id)), webRequest)) {
+            return null;
+        }
+
+        final var renderedPost = cachedPost == null
+                ? postResponseCache.get(id, () -> postService.getOne(id))
+                : cachedPost;
+        if (isNotModified(renderedPost.version(), webRequest)) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(renderedPost.body());
+    }
+
+    @GetMapping(value = "{id}", params = "fields=summary")
+    public PostSummaryResponse getOneSummary(@PathVariable @Positive long id, WebRequest webRequest) {
+        if (isConditional(webRequest) && isNotModified(postService.getVersion(id), webRequest)) {
+            return null;
+        }
+
+        final var summary = postService.getSummary(id);
+        if (isNotModified(summary.toVersion(), webRequest)) {
+            return null;
+        }
+
+        return postConverter.toDto(summary);
     }
 
+    /**
+     * {@code hasNext} comes from reading one row past the page; {@code total} is only added on request
+     * and is the approximate count from {@link PostCountCache}, never a count per request.
+     */
     @GetMapping
-    public List<PostResponse> getAll(
-            @PageableDefault(size = 10, sort = {"createdAt"}, direction = Sort.Direction.DESC) Pageable pageable
+    public PostSliceResponse getAll(
+            @PageableDefault(size = 10, sort = {"createdAt"}, direction = Sort.Direction.DESC) Pageable pageable,
+            @RequestParam(defaultValue = "false") boolean withTotal,
+            WebRequest webRequest
+    ) {
+        final var total = withTotal ? postCountCache.get() : null;
+        if (isConditional(webRequest) && isNotModified(postService.getVersions(pageable), total, webRequest)) {
+            return null;
+        }
+
+        final var slice = postService.getAll(pageable);
+        if (isNotModified(versionsOf(slice.getContent()), total, webRequest)) {
+            return null;
+        }
+
+        final var posts = slice.stream()
+                .map(postConverter::toDto)
+                .collect(Collectors.toList());
+
+        return new PostSliceResponse(posts, slice.getNumber(), slice.getSize(), slice.hasNext(), total);
+    }
+
+    @GetMapping(params = {"fields=summary", "!after"})
+    public PostSliceResponse getAllSummaries(
+            @PageableDefault(size = 10, sort = {"createdAt"}, direction = Sort.Direction.DESC) Pageable pageable,
+            @RequestParam(defaultValue = "false") boolean withTotal,
+            WebRequest webRequest
+    ) {
+        final var total = withTotal ? postCountCache.get() : null;
+        if (isConditional(webRequest) && isNotModified(postService.getVersions(pageable), total, webRequest)) {
+            return null;
+        }
+
+        final var slice = postService.getAllSummaries(pageable);
+        if (isNotModified(versionsOf(slice.getContent()), total, webRequest)) {
+            return null;
+        }
+
+        final var posts = slice.stream()
+                .map(postConverter::toDto)
+                .collect(Collectors.toList());
+
+        return new PostSliceResponse(posts, slice.getNumber(), slice.getSize(), slice.hasNext(), total);
+    }
+
+    @GetMapping("search")
+    public List<PostSummaryResponse> search(
+            @RequestParam @NotBlank @Size(max = 200) String q,
+            @PageableDefault(size = 10) Pageable pageable
+    ) {
+        return postService.search(q, pageable).stream()
+                .map(postConverter::toDto)
+                .collect(Collectors.toList());
+    }
+
+    @GetMapping(params = "after")
+    public PostCursorResponse getAllAfter(
+            @RequestParam String after,
+            @RequestParam(defaultValue = "10") @Positive @Max(100) int size
     ) {
-        final var posts = postService.getAll(pageable);
-        return posts.stream()
+        final var cursor = after.isBlank() ? null : PostCursor.decode(after);
+        final var slice = postService.getAllAfter(cursor, size);
+
+        final var posts = slice.stream()
                 .map(postConverter::toDto)
                 .collect(Collectors.toList());
+
+        return new PostCursorResponse(posts, PostCursor.encodeNext(slice));
+    }
+
+    private static boolean isConditional(WebRequest webRequest) {
+        return webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                || webRequest.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
+
+    private static List<PostVersion> versionsOf(List<PostSummary> summaries) {
+        return summaries.stream()
+                .map(PostSummary::toVersion)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Also sets {@code ETag} and {@code Last-Modified} on the response when it is not answered with 304.
+     */
+    private static boolean isNotModified(PostVersion version, WebRequest webRequest) {
+        return webRequest.checkNotModified(PostETag.of(version), PostETag.lastModified(version));
+    }
+
+    /**
+     * A page sent with {@code total} is validated by its {@code ETag} alone, since the count has no
+     * modification time that {@code If-Modified-Since} could be compared with.
+     */
+    private static boolean isNotModified(List<PostVersion> versions, Long total, WebRequest webRequest) {
+        if (total == null) {
+            return webRequest.checkNotModified(PostETag.of(versions), PostETag.lastModified(versions));
+        }
+
+        return webRequest.checkNotModified(PostETag.of(versions, total));
     }
 }
@@ -0,0 +1,75 @@
+package com.waterfogsw.springbootboardjpa.post.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.waterfogsw.springbootboardjpa.common.batch.BatchItem;
+import com.waterfogsw.springbootboardjpa.common.batch.BatchItemResponse;
+import com.waterfogsw.springbootboardjpa.common.batch.ChunkedBatchReader;
+import com.waterfogsw.springbootboardjpa.post.controller.dto.PostAddRequest;
+import com.waterfogsw.springbootboardjpa.post.service.PostService;
+import com.waterfogsw.springbootboardjpa.post.service.dto.PostDraft;
+import com.waterfogsw.springbootboardjpa.post.util.PostConverter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.validation.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Bulk ingestion of posts. The body is either a JSON array or NDJSON; it is read as a stream
+ * and written in chunks, each chunk in its own transaction. See {@link ChunkedBatchReader} for how
+ * invalid and malformed items are reported.
+ */
+@RestController
+public class PostBatchApiController {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final PostConverter postConverter;
+    private final PostService postService;
+    private final ChunkedBatchReader<PostAddRequest> batchReader;
+
+    public PostBatchApiController(
+            PostConverter postConverter,
+            PostService postService,
+            ObjectMapper objectMapper,
+            Validator validator
+    ) {
+        this.postConverter = postConverter;
+        this.postService = postService;
+        this.batchReader = new ChunkedBatchReader<>(objectMapper, validator, PostAddRequest.class, CHUNK_SIZE);
+    }
+
+    @PostMapping(
+            value = "api/v1/posts:batch",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE}
+    )
+    public List<BatchItemResponse> addPosts(InputStream body) throws IOException {
+        return batchReader.read(body, this::write);
+    }
+
+    private List<BatchItemResponse> write(List<BatchItem<PostAddRequest>> chunk) {
+        final var drafts = chunk.stream()
+                .map(BatchItem::value)
+                .map(postAddRequest -> new PostDraft(postAddRequest.userId(), postConverter.toEntity(postAddRequest)))
+                .collect(Collectors.toList());
+        postService.addPosts(drafts);
+
+        return IntStream.range(0, chunk.size())
+                .mapToObj(i -> toResult(chunk.get(i).index(), drafts.get(i).post().getId()))
+                .collect(Collectors.toList());
+    }
+
+    private BatchItemResponse toResult(int index, Long postId) {
+        if (postId == null) {
+            return new BatchItemResponse(index, HttpStatus.NOT_FOUND.value(), null, "User not exist");
+        }
+
+        return new BatchItemResponse(index, HttpStatus.CREATED.value(), postId, null);
+    }
+}
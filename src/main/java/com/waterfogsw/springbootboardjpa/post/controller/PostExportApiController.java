@@ -0,0 +1,82 @@
+package com.waterfogsw.springbootboardjpa.post.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.waterfogsw.springbootboardjpa.post.service.PostService;
+import com.waterfogsw.springbootboardjpa.post.util.PostConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Streams every post as NDJSON. Posts are written while the repository stream is read,
+ * so memory use does not depend on the number of posts.
+ * <p>
+ * The export runs as its own async task with {@code board.export.timeout} (30 minutes by default),
+ * leaving {@code spring.mvc.async.request-timeout} to the other async endpoints. An export still
+ * running when the timeout expires is cut off: the status is already 200, so the client only sees a
+ * body that ends early, possibly in the middle of a line. Raise the timeout to the size of the table.
+ */
+@RestController
+public class PostExportApiController {
+
+    private static final int FLUSH_SIZE = 1000;
+
+    private final PostConverter postConverter;
+    private final PostService postService;
+    private final ObjectMapper objectMapper;
+    private final Duration timeout;
+
+    public PostExportApiController(
+            PostConverter postConverter,
+            PostService postService,
+            ObjectMapper objectMapper,
+            @Value("${board.export.timeout:30m}") Duration timeout
+    ) {
+        this.postConverter = postConverter;
+        this.postService = postService;
+        this.objectMapper = objectMapper;
+        this.timeout = timeout;
+    }
+
+    @GetMapping(value = "api/v1/posts/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public WebAsyncTask<Void> exportAll(HttpServletResponse response) {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+
+        return new WebAsyncTask<>(timeout.toMillis(), () -> {
+            write(response.getOutputStream());
+            response.flushBuffer();
+            return null;
+        });
+    }
+
+    private void write(OutputStream outputStream) throws IOException {
+        try (final var generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            final var written = new AtomicLong();
+
+            postService.exportAll(post -> {
+                try {
+                    generator.writeObject(postConverter.toExportDto(post));
+                    generator.writeRaw('\n');
+
+                    if (written.incrementAndGet() % FLUSH_SIZE == 0) {
+                        generator.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.waterfogsw.springbootboardjpa.post.controller;
+
+import com.waterfogsw.springbootboardjpa.post.controller.dto.PostResponse;
+import com.waterfogsw.springbootboardjpa.post.controller.dto.PostSummaryResponse;
+import com.waterfogsw.springbootboardjpa.post.repository.dto.PostSummary;
+import com.waterfogsw.springbootboardjpa.post.service.PostService;
+import com.waterfogsw.springbootboardjpa.post.util.PostConverter;
+import com.waterfogsw.springbootboardjpa.post.util.PostCursor;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.MediaType;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Positive;
+import java.util.Optional;
+
+/**
+ * Read-only post API for fan-out clients. The feed is pulled one keyset page at a time, and only as
+ * fast as the client reads it. Blocking queries run on the bounded {@code jdbcScheduler}, not on a
+ * thread per subscriber.
+ */
+@Validated
+@RestController
+@RequestMapping("api/v2/posts")
+public class PostReactiveApiController {
+
+    private final PostConverter postConverter;
+    private final PostService postService;
+    private final Scheduler jdbcScheduler;
+
+    public PostReactiveApiController(
+            PostConverter postConverter,
+            PostService postService,
+            Scheduler jdbcScheduler
+    ) {
+        this.postConverter = postConverter;
+        this.postService = postService;
+        this.jdbcScheduler = jdbcScheduler;
+    }
+
+    @GetMapping("{id}")
+    public Mono<PostResponse> getOne(@PathVariable @Positive long id) {
+        return Mono.fromCallable(() -> postService.getOne(id))
+                .subscribeOn(jdbcScheduler)
+                .map(postConverter::toDto);
+    }
+
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<PostSummaryResponse> getFeed(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "50") @Positive @Max(100) int pageSize
+    ) {
+        final var cursor = after == null || after.isBlank() ? null : PostCursor.decode(after);
+
+        return Flux.<Slice<PostSummary>, Optional<PostCursor>>generate(
+                        () -> Optional.ofNullable(cursor),
+                        (current, sink) -> {
+                            final var slice = postService.getAllAfter(current.orElse(null), pageSize);
+                            sink.next(slice);
+                            if (!slice.hasNext()) {
+                                sink.complete();
+                                return current;
+                            }
+
+                            return Optional.of(PostCursor.from(slice.getContent().get(slice.getNumberOfElements() - 1)));
+                        })
+                .subscribeOn(jdbcScheduler)
+                .concatMapIterable(Slice::getContent, 1)
+                .map(postConverter::toDto);
+    }
+}
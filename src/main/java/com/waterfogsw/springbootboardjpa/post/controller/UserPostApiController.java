@@ -0,0 +1,47 @@
+package com.waterfogsw.springbootboardjpa.post.controller;
+
+import com.waterfogsw.springbootboardjpa.post.controller.dto.PostCursorResponse;
+import com.waterfogsw.springbootboardjpa.post.service.PostService;
+import com.waterfogsw.springbootboardjpa.post.util.PostConverter;
+import com.waterfogsw.springbootboardjpa.post.util.PostCursor;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Positive;
+import java.util.stream.Collectors;
+
+/**
+ * An author's posts, newest first, continued with the same opaque cursor as the post feed.
+ */
+@Validated
+@RestController
+public class UserPostApiController {
+
+    private final PostConverter postConverter;
+    private final PostService postService;
+
+    public UserPostApiController(PostConverter postConverter, PostService postService) {
+        this.postConverter = postConverter;
+        this.postService = postService;
+    }
+
+    @GetMapping("api/v1/users/{userId}/posts")
+    public PostCursorResponse getAllByAuthor(
+            @PathVariable @Positive long userId,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") @Positive @Max(100) int size
+    ) {
+        final var cursor = after == null || after.isBlank() ? null : PostCursor.decode(after);
+        final var slice = postService.getAllByAuthorAfter(userId, cursor, size);
+
+        final var posts = slice.stream()
+                .map(postConverter::toDto)
+                .collect(Collectors.toList());
+
+        return new PostCursorResponse(posts, PostCursor.encodeNext(slice));
+    }
+}
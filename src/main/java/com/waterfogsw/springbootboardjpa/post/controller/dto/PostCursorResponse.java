@@ -0,0 +1,9 @@
+package com.waterfogsw.springbootboardjpa.post.controller.dto;
+
+import java.util.List;
+
+public record PostCursorResponse(
+        List<PostSummaryResponse> posts,
+        String nextCursor
+) {
+}
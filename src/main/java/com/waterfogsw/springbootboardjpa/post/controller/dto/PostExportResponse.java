@@ -0,0 +1,14 @@
+package com.waterfogsw.springbootboardjpa.post.controller.dto;
+
+import java.time.LocalDateTime;
+
+public record PostExportResponse(
+        Long id,
+        String title,
+        String content,
+        String userName,
+        String userEmail,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
@@ -4,6 +4,7 @@ public record PostResponse(
         String title,
         String content,
         String userName,
-        String userEmail
+        String userEmail,
+        Long version
 ) {
 }
@@ -0,0 +1,15 @@
+package com.waterfogsw.springbootboardjpa.post.controller.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PostSliceResponse(
+        List<PostSummaryResponse> posts,
+        int page,
+        int size,
+        boolean hasNext,
+        Long total
+) {
+}
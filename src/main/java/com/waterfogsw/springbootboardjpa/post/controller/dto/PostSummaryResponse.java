@@ -0,0 +1,13 @@
+package com.waterfogsw.springbootboardjpa.post.controller.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PostSummaryResponse(
+        Long id,
+        String title,
+        String excerpt,
+        String userName,
+        String userEmail
+) {
+}
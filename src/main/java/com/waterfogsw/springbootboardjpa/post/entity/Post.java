@@ -2,6 +2,10 @@ package com.waterfogsw.springbootboardjpa.post.entity;
 
 import com.waterfogsw.springbootboardjpa.common.entity.BaseEntity;
 import com.waterfogsw.springbootboardjpa.user.entity.User;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FullTextField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
 import org.springframework.util.Assert;
 
 import javax.persistence.*;
@@ -9,22 +13,37 @@ import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "post")
+@Indexed(index = "post")
+@Table(indexes = {
+        @Index(name = "IDX_POST_CREATED_AT_ID", columnList = "createdAt desc, id desc"),
+        @Index(name = "IDX_POST_USER_CREATED_AT_ID", columnList = "USER_ID, createdAt desc, id desc")
+})
 public class Post extends BaseEntity {
+    public static final String FK_USER = "FK_POST_USER";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_seq")
+    @SequenceGenerator(name = "post_seq", sequenceName = "POST_SEQ", allocationSize = 50)
     private Long id;
 
+    @Version
+    private Long version;
+
     @NotBlank
+    @FullTextField
     @Column(length = 100)
     private String title;
 
     @NotBlank
+    @FullTextField
     @Lob
     private String content;
 
     @NotNull
     @ManyToOne
-    @JoinColumn(name = "USER_ID")
+    @JoinColumn(name = "USER_ID", foreignKey = @ForeignKey(name = FK_USER))
     private User user;
 
     protected Post() {
@@ -40,6 +59,14 @@ public class Post extends BaseEntity {
         return new Builder();
     }
 
+    public Long getId() {
+        return id;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
     public String getTitle() {
         return title;
     }
@@ -57,11 +84,8 @@ public class Post extends BaseEntity {
     }
 
     public void update(String title, String content) {
-        Assert.isTrue(!title.isBlank(), "Title should not be blank");
-        Assert.isTrue(!content.isBlank(), "Content should not be blank");
-
-        Assert.notNull(title, "Title should not be null");
-        Assert.notNull(content, "Content should not be null");
+        Assert.hasText(title, "Title should not be blank");
+        Assert.hasText(content, "Content should not be blank");
 
         this.title = title;
         this.content = content;
@@ -0,0 +1,6 @@
+package com.waterfogsw.springbootboardjpa.post.event;
+
+public record PostUpdatedEvent(
+        long postId
+) {
+}
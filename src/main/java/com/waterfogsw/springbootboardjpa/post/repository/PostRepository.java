@@ -1,19 +1,123 @@
 package com.waterfogsw.springbootboardjpa.post.repository;
 
 import com.waterfogsw.springbootboardjpa.post.entity.Post;
+import com.waterfogsw.springbootboardjpa.post.repository.dto.PostSummary;
+import com.waterfogsw.springbootboardjpa.post.repository.dto.PostVersion;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_CACHE_MODE;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
 
-    @Query("select p from Post p join fetch p.user where p.id = :id")
-    Optional<Post> findById(@Param("id") Long id);
+    @Query("select new com.waterfogsw.springbootboardjpa.post.repository.dto.PostVersion(p.id, p.version, p.updatedAt) from Post p where p.id = :id")
+    Optional<PostVersion> findVersionById(@Param("id") Long id);
+
+    @Query("select new com.waterfogsw.springbootboardjpa.post.repository.dto.PostVersion(p.id, p.version, p.updatedAt) from Post p")
+    List<PostVersion> findVersions(Pageable pageable);
+
+    @Query("""
+            select new com.waterfogsw.springbootboardjpa.post.repository.dto.PostSummary(
+                p.id, p.title, u.name, u.email, p.createdAt, p.version, p.updatedAt
+            )
+            from Post p join p.user u
+            where p.id = :id
+            """)
+    Optional<PostSummary> findSummaryById(@Param("id") Long id);
+
+    @Query("""
+            select new com.waterfogsw.springbootboardjpa.post.repository.dto.PostSummary(
+                p.id, p.title, u.name, u.email, p.createdAt, p.version, p.updatedAt
+            )
+            from Post p join p.user u
+            """)
+    Slice<PostSummary> findHeaders(Pageable pageable);
+
+    @Query("""
+            select new com.waterfogsw.springbootboardjpa.post.repository.dto.PostSummary(
+                p.id, p.title, substring(p.content, 1, 200), u.name, u.email, p.createdAt,
+                p.version, p.updatedAt
+            )
+            from Post p join p.user u
+            """)
+    Slice<PostSummary> findSummaries(Pageable pageable);
+
+    @Query("""
+            select new com.waterfogsw.springbootboardjpa.post.repository.dto.PostSummary(
+                p.id, p.title, substring(p.content, 1, 200), u.name, u.email, p.createdAt
+            )
+            from Post p join p.user u
+            where p.id in :ids
+            """)
+    List<PostSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+            select new com.waterfogsw.springbootboardjpa.post.repository.dto.PostSummary(
+                p.id, p.title, substring(p.content, 1, 200), u.name, u.email, p.createdAt
+            )
+            from Post p join p.user u
+            order by p.createdAt desc, p.id desc
+            """)
+    Slice<PostSummary> findFirstSlice(Pageable pageable);
+
+    @Query("""
+            select new com.waterfogsw.springbootboardjpa.post.repository.dto.PostSummary(
+                p.id, p.title, substring(p.content, 1, 200), u.name, u.email, p.createdAt
+            )
+            from Post p join p.user u
+            where p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id)
+            order by p.createdAt desc, p.id desc
+            """)
+    Slice<PostSummary> findSliceAfter(
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    @Query("""
+            select new com.waterfogsw.springbootboardjpa.post.repository.dto.PostSummary(
+                p.id, p.title, u.name, u.email, p.createdAt
+            )
+            from Post p join p.user u
+            where u.id = :userId
+            order by p.createdAt desc, p.id desc
+            """)
+    Slice<PostSummary> findFirstSliceByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("""
+            select new com.waterfogsw.springbootboardjpa.post.repository.dto.PostSummary(
+                p.id, p.title, u.name, u.email, p.createdAt
+            )
+            from Post p join p.user u
+            where u.id = :userId
+                and (p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id))
+            order by p.createdAt desc, p.id desc
+            """)
+    Slice<PostSummary> findSliceByUserIdAfter(
+            @Param("userId") Long userId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
 
-    @Query("select p from Post p join fetch p.user")
-    List<Post> findWithPagination(Pageable pageable);
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READONLY, value = "true"),
+            @QueryHint(name = HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("select p from Post p join fetch p.user order by p.id")
+    Stream<Post> streamAll();
 }
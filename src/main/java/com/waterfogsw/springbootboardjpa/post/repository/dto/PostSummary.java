@@ -0,0 +1,48 @@
+package com.waterfogsw.springbootboardjpa.post.repository.dto;
+
+import java.time.LocalDateTime;
+
+public record PostSummary(
+        Long id,
+        String title,
+        String excerpt,
+        String userName,
+        String userEmail,
+        LocalDateTime createdAt,
+        Long version,
+        LocalDateTime updatedAt
+) {
+    public PostSummary(
+            Long id,
+            String title,
+            String excerpt,
+            String userName,
+            String userEmail,
+            LocalDateTime createdAt
+    ) {
+        this(id, title, excerpt, userName, userEmail, createdAt, null, null);
+    }
+
+    public PostSummary(Long id, String title, String userName, String userEmail, LocalDateTime createdAt) {
+        this(id, title, null, userName, userEmail, createdAt);
+    }
+
+    public PostSummary(
+            Long id,
+            String title,
+            String userName,
+            String userEmail,
+            LocalDateTime createdAt,
+            Long version,
+            LocalDateTime updatedAt
+    ) {
+        this(id, title, null, userName, userEmail, createdAt, version, updatedAt);
+    }
+
+    /**
+     * Only meaningful for rows read with their version, see {@code PostRepository}.
+     */
+    public PostVersion toVersion() {
+        return new PostVersion(id, version, updatedAt);
+    }
+}
@@ -0,0 +1,10 @@
+package com.waterfogsw.springbootboardjpa.post.repository.dto;
+
+import java.time.LocalDateTime;
+
+public record PostVersion(
+        Long id,
+        Long version,
+        LocalDateTime updatedAt
+) {
+}
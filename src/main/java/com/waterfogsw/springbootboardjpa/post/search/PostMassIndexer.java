@@ -0,0 +1,86 @@
+package com.waterfogsw.springbootboardjpa.post.search;
+
+import com.waterfogsw.springbootboardjpa.post.entity.Post;
+import org.hibernate.search.mapper.orm.Search;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Automatic indexing only sees writes made through this application, so rows that exist before the index
+ * does, such as after a restore or on a new or lost index directory, are indexed here from the database.
+ * <p>
+ * {@code board.search.mass-indexing.mode} decides what happens at startup: {@code if-empty} (default)
+ * indexes only when the post index holds no document, {@code always} rebuilds it and {@code never} leaves
+ * it to an explicit {@link #reindex()}. Indexing runs in the background; search results are incomplete
+ * until it finishes.
+ */
+@Component
+public class PostMassIndexer {
+
+    private static final Logger log = LoggerFactory.getLogger(PostMassIndexer.class);
+    private static final Set<String> MODES = Set.of("if-empty", "always", "never");
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final String mode;
+    private final int threadsToLoadObjects;
+
+    public PostMassIndexer(
+            EntityManagerFactory entityManagerFactory,
+            @Value("${board.search.mass-indexing.mode:if-empty}") String mode,
+            @Value("${board.search.mass-indexing.threads-to-load-objects:2}") int threadsToLoadObjects
+    ) {
+        Assert.isTrue(MODES.contains(mode), "Mass indexing mode should be one of " + MODES);
+        Assert.isTrue(threadsToLoadObjects > 0, "Threads to load objects should be positive");
+
+        this.entityManagerFactory = entityManagerFactory;
+        this.mode = mode;
+        this.threadsToLoadObjects = threadsToLoadObjects;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void handleApplicationReady() {
+        if ("always".equals(mode) || ("if-empty".equals(mode) && isIndexEmpty())) {
+            reindex();
+        }
+    }
+
+    /**
+     * Rebuilds the post index from the database. The returned stage completes once indexing has finished.
+     */
+    public CompletionStage<?> reindex() {
+        log.info("Mass indexing posts");
+        return Search.mapping(entityManagerFactory)
+                .scope(Post.class)
+                .massIndexer()
+                .threadsToLoadObjects(threadsToLoadObjects)
+                .start()
+                .whenComplete((result, e) -> {
+                    if (e != null) {
+                        log.error("Mass indexing posts failed", e);
+                    } else {
+                        log.info("Mass indexing posts finished");
+                    }
+                });
+    }
+
+    private boolean isIndexEmpty() {
+        final var em = entityManagerFactory.createEntityManager();
+        try {
+            return Search.session(em)
+                    .search(Post.class)
+                    .where(f -> f.matchAll())
+                    .fetchTotalHitCount() == 0;
+        } finally {
+            em.close();
+        }
+    }
+}
@@ -1,28 +1,61 @@
 package com.waterfogsw.springbootboardjpa.post.service;
 
 import com.waterfogsw.springbootboardjpa.common.exception.AuthenticationException;
+import com.waterfogsw.springbootboardjpa.common.exception.PreconditionFailedException;
 import com.waterfogsw.springbootboardjpa.common.exception.ResourceNotFoundException;
 import com.waterfogsw.springbootboardjpa.post.entity.Post;
+import com.waterfogsw.springbootboardjpa.post.event.PostUpdatedEvent;
 import com.waterfogsw.springbootboardjpa.post.repository.PostRepository;
-import com.waterfogsw.springbootboardjpa.user.entity.User;
+import com.waterfogsw.springbootboardjpa.post.repository.dto.PostSummary;
+import com.waterfogsw.springbootboardjpa.post.repository.dto.PostVersion;
+import com.waterfogsw.springbootboardjpa.post.service.dto.PostDraft;
+import com.waterfogsw.springbootboardjpa.post.util.PostCursor;
 import com.waterfogsw.springbootboardjpa.user.service.UserService;
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.search.engine.search.common.BooleanOperator;
+import org.hibernate.search.mapper.orm.Search;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Transactional(readOnly = true)
 @Service
 public class DefaultPostService implements PostService {
 
+    // keep in line with hibernate.jdbc.batch_size
+    private static final int FLUSH_SIZE = 50;
+    private static final int EXPORT_CLEAR_SIZE = 1000;
+
     private final UserService userService;
     private final PostRepository postRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager em;
 
-    public DefaultPostService(UserService userService, PostRepository postRepository) {
+    public DefaultPostService(
+            UserService userService,
+            PostRepository postRepository,
+            ApplicationEventPublisher eventPublisher,
+            EntityManager em
+    ) {
         this.userService = userService;
         this.postRepository = postRepository;
+        this.eventPublisher = eventPublisher;
+        this.em = em;
     }
 
     @Override
@@ -31,9 +64,48 @@ public class DefaultPostService implements PostService {
         Assert.isTrue(userId > 0, "User id should be positive");
         Assert.notNull(post, "Post should not be null");
 
-        final var user = userService.getOne(userId);
-        post.updateAuthor(user);
-        postRepository.save(post);
+        // the author is only attached by reference, its existence is checked by the foreign key
+        post.updateAuthor(userService.getReference(userId));
+        try {
+            postRepository.saveAndFlush(post);
+        } catch (DataIntegrityViolationException e) {
+            if (isAuthorViolation(e)) {
+                throw new ResourceNotFoundException("User not exist");
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    @Transactional
+    public List<Post> addPosts(List<PostDraft> drafts) {
+        Assert.notNull(drafts, "Drafts should not be null");
+
+        final var userIds = drafts.stream()
+                .map(PostDraft::userId)
+                .collect(Collectors.toSet());
+        // existence comes from the snapshot cache, the author is only attached as a reference
+        final var authors = userService.getSnapshots(userIds);
+
+        final var saved = new ArrayList<Post>(drafts.size());
+        for (final var draft : drafts) {
+            if (!authors.containsKey(draft.userId())) {
+                continue;
+            }
+
+            draft.post().updateAuthor(userService.getReference(draft.userId()));
+            postRepository.save(draft.post());
+            saved.add(draft.post());
+
+            if (saved.size() % FLUSH_SIZE == 0) {
+                em.flush();
+                em.clear();
+            }
+        }
+
+        em.flush();
+        em.clear();
+        return saved;
     }
 
     @Override
@@ -45,30 +117,168 @@ public class DefaultPostService implements PostService {
     }
 
     @Override
-    public List<Post> getAll(Pageable pageable) {
+    public PostSummary getSummary(long id) {
+        Assert.isTrue(id > 0, "Post id should be positive");
+
+        return postRepository.findSummaryById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Post not found"));
+    }
+
+    @Override
+    public PostVersion getVersion(long id) {
+        Assert.isTrue(id > 0, "Post id should be positive");
+
+        return postRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Post not found"));
+    }
+
+    @Override
+    public List<PostVersion> getVersions(Pageable pageable) {
+        Assert.notNull(pageable, "Pageable shout not be null");
+        return postRepository.findVersions(pageable);
+    }
+
+    @Override
+    public Slice<PostSummary> getAll(Pageable pageable) {
+        Assert.notNull(pageable, "Pageable shout not be null");
+        return postRepository.findSummaries(pageable);
+    }
+
+    @Override
+    public long count() {
+        return postRepository.count();
+    }
+
+    @Override
+    public Slice<PostSummary> getAllSummaries(Pageable pageable) {
+        Assert.notNull(pageable, "Pageable shout not be null");
+        return postRepository.findHeaders(pageable);
+    }
+
+    @Override
+    public Slice<PostSummary> getAllAfter(PostCursor cursor, int size) {
+        Assert.isTrue(size > 0, "Size should be positive");
+
+        final var pageable = PageRequest.of(0, size);
+        if (cursor == null) {
+            return postRepository.findFirstSlice(pageable);
+        }
+
+        return postRepository.findSliceAfter(cursor.createdAt(), cursor.id(), pageable);
+    }
+
+    @Override
+    public Slice<PostSummary> getAllByAuthorAfter(long userId, PostCursor cursor, int size) {
+        Assert.isTrue(userId > 0, "User id should be positive");
+        Assert.isTrue(size > 0, "Size should be positive");
+
+        // an unknown author is a 404, not an empty page
+        userService.getSnapshot(userId);
+
+        final var pageable = PageRequest.of(0, size);
+        if (cursor == null) {
+            return postRepository.findFirstSliceByUserId(userId, pageable);
+        }
+
+        return postRepository.findSliceByUserIdAfter(userId, cursor.createdAt(), cursor.id(), pageable);
+    }
+
+    @Override
+    public List<PostSummary> search(String query, Pageable pageable) {
+        Assert.hasText(query, "Query should not be blank");
         Assert.notNull(pageable, "Pageable shout not be null");
-        return postRepository.findWithPagination(pageable);
+
+        // rank in the index, then read the page of summaries with a single query
+        final var ids = Search.session(em).search(Post.class)
+                .select(f -> f.entityReference())
+                .where(f -> f.simpleQueryString()
+                        .field("title").boost(2.0f)
+                        .field("content")
+                        .matching(query)
+                        .defaultOperator(BooleanOperator.AND))
+                .fetchHits((int) pageable.getOffset(), pageable.getPageSize())
+                .stream()
+                .map(reference -> (Long) reference.id())
+                .toList();
+
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        final var summaries = postRepository.findSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(PostSummary::id, Function.identity()));
+        return ids.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public void exportAll(Consumer<Post> consumer) {
+        Assert.notNull(consumer, "Consumer should not be null");
+
+        try (final var posts = postRepository.streamAll()) {
+            final var count = new AtomicLong();
+            posts.forEach(post -> {
+                consumer.accept(post);
+                em.detach(post);
+
+                // authors are shared between posts, drop them from the persistence context once in a while
+                if (count.incrementAndGet() % EXPORT_CLEAR_SIZE == 0) {
+                    em.clear();
+                }
+            });
+        }
     }
 
 
     @Override
     @Transactional
     public void updatePost(long userId, long postId, Post post) {
+        updatePost(userId, postId, post, null);
+    }
+
+    @Override
+    @Transactional
+    public void updatePost(long userId, long postId, Post post, Long expectedVersion) {
         Assert.isTrue(userId > 0, "User id should be positive");
         Assert.isTrue(postId > 0, "Post id should be positive");
         Assert.notNull(post, "Post should not be null");
+        Assert.hasText(post.getTitle(), "Title should not be blank");
+        Assert.hasText(post.getContent(), "Content should not be blank");
 
-        final var user = userService.getOne(userId);
-        final var targetPost = postRepository.findById(postId)
+        // usually a second-level cache hit, a bulk UPDATE would evict the whole post region instead
+        final var origin = postRepository.findById(postId)
                 .orElseThrow(() -> new ResourceNotFoundException("Post not found"));
+        checkAuthor(userId, origin.getUser().getId());
+        if (expectedVersion != null && !expectedVersion.equals(origin.getVersion())) {
+            throw new PreconditionFailedException("Post has been modified");
+        }
 
-        checkAuthor(user, targetPost.getUser());
+        origin.update(post.getTitle(), post.getContent());
+        try {
+            // a single UPDATE ... WHERE id = ? AND version = ?, flushed here to report a concurrent update
+            postRepository.flush();
+        } catch (ObjectOptimisticLockingFailureException e) {
+            if (expectedVersion != null) {
+                throw new PreconditionFailedException("Post has been modified");
+            }
+            throw e;
+        }
+
+        eventPublisher.publishEvent(new PostUpdatedEvent(postId));
+    }
 
-        targetPost.update(post.getTitle(), post.getContent());
+    private boolean isAuthorViolation(DataIntegrityViolationException e) {
+        if (e.getCause() instanceof ConstraintViolationException violation) {
+            final var constraintName = violation.getConstraintName();
+            return constraintName != null && constraintName.toUpperCase().contains(Post.FK_USER);
+        }
+        return false;
     }
 
-    private void checkAuthor(User currentUser, User author) {
-        if (!currentUser.equals(author)) {
+    private void checkAuthor(long currentUserId, long authorId) {
+        if (currentUserId != authorId) {
             throw new AuthenticationException("Current user is not writer");
         }
     }
@@ -1,16 +1,44 @@
 package com.waterfogsw.springbootboardjpa.post.service;
 
 import com.waterfogsw.springbootboardjpa.post.entity.Post;
+import com.waterfogsw.springbootboardjpa.post.repository.dto.PostSummary;
+import com.waterfogsw.springbootboardjpa.post.repository.dto.PostVersion;
+import com.waterfogsw.springbootboardjpa.post.service.dto.PostDraft;
+import com.waterfogsw.springbootboardjpa.post.util.PostCursor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface PostService {
     void addPost(long userId, Post post);
 
+    List<Post> addPosts(List<PostDraft> drafts);
+
     Post getOne(long postId);
 
-    List<Post> getAll(Pageable pageable);
+    PostSummary getSummary(long postId);
+
+    PostVersion getVersion(long postId);
+
+    List<PostVersion> getVersions(Pageable pageable);
+
+    Slice<PostSummary> getAll(Pageable pageable);
+
+    long count();
+
+    Slice<PostSummary> getAllSummaries(Pageable pageable);
+
+    Slice<PostSummary> getAllAfter(PostCursor cursor, int size);
+
+    Slice<PostSummary> getAllByAuthorAfter(long userId, PostCursor cursor, int size);
+
+    List<PostSummary> search(String query, Pageable pageable);
+
+    void exportAll(Consumer<Post> consumer);
 
     void updatePost(long userId, long postId, Post post);
+
+    void updatePost(long userId, long postId, Post post, Long expectedVersion);
 }
@@ -0,0 +1,9 @@
+package com.waterfogsw.springbootboardjpa.post.service.dto;
+
+import com.waterfogsw.springbootboardjpa.post.entity.Post;
+
+public record PostDraft(
+        long userId,
+        Post post
+) {
+}
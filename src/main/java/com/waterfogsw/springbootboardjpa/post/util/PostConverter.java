@@ -1,9 +1,12 @@
 package com.waterfogsw.springbootboardjpa.post.util;
 
 import com.waterfogsw.springbootboardjpa.post.controller.dto.PostAddRequest;
+import com.waterfogsw.springbootboardjpa.post.controller.dto.PostExportResponse;
 import com.waterfogsw.springbootboardjpa.post.controller.dto.PostResponse;
+import com.waterfogsw.springbootboardjpa.post.controller.dto.PostSummaryResponse;
 import com.waterfogsw.springbootboardjpa.post.controller.dto.PostUpdateRequest;
 import com.waterfogsw.springbootboardjpa.post.entity.Post;
+import com.waterfogsw.springbootboardjpa.post.repository.dto.PostSummary;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -27,7 +30,30 @@ public class PostConverter {
                 post.getTitle(),
                 post.getContent(),
                 post.getUser().getName(),
-                post.getUser().getEmail()
+                post.getUser().getEmail(),
+                post.getVersion()
+        );
+    }
+
+    public PostExportResponse toExportDto(Post post) {
+        return new PostExportResponse(
+                post.getId(),
+                post.getTitle(),
+                post.getContent(),
+                post.getUser().getName(),
+                post.getUser().getEmail(),
+                post.getCreatedAt(),
+                post.getUpdatedAt()
+        );
+    }
+
+    public PostSummaryResponse toDto(PostSummary postSummary) {
+        return new PostSummaryResponse(
+                postSummary.id(),
+                postSummary.title(),
+                postSummary.excerpt(),
+                postSummary.userName(),
+                postSummary.userEmail()
         );
     }
 }
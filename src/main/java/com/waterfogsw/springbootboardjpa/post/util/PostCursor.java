@@ -0,0 +1,64 @@
+package com.waterfogsw.springbootboardjpa.post.util;
+
+import com.waterfogsw.springbootboardjpa.post.repository.dto.PostSummary;
+import org.springframework.data.domain.Slice;
+import org.springframework.util.Assert;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of the last post of a feed page, ordered by (createdAt desc, id desc).
+ * Clients only see it as an opaque token.
+ */
+public record PostCursor(
+        LocalDateTime createdAt,
+        long id
+) {
+    private static final String DELIMITER = "_";
+
+    public PostCursor {
+        Assert.notNull(createdAt, "CreatedAt should not be null");
+        Assert.isTrue(id > 0, "Post id should be positive");
+    }
+
+    public static PostCursor from(PostSummary summary) {
+        Assert.notNull(summary, "Summary should not be null");
+        return new PostCursor(summary.createdAt(), summary.id());
+    }
+
+    /**
+     * Returns the encoded cursor after the last summary of the slice, or {@code null} for the last slice.
+     */
+    public static String encodeNext(Slice<PostSummary> slice) {
+        Assert.notNull(slice, "Slice should not be null");
+        if (!slice.hasNext()) {
+            return null;
+        }
+
+        return from(slice.getContent().get(slice.getNumberOfElements() - 1)).encode();
+    }
+
+    public static PostCursor decode(String token) {
+        Assert.hasText(token, "Cursor should not be blank");
+
+        try {
+            final var decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            final var delimiterIndex = decoded.lastIndexOf(DELIMITER);
+            final var createdAt = LocalDateTime.parse(decoded.substring(0, delimiterIndex));
+            final var id = Long.parseLong(decoded.substring(delimiterIndex + 1));
+            return new PostCursor(createdAt, id);
+        } catch (IndexOutOfBoundsException | DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        final var raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,94 @@
+package com.waterfogsw.springbootboardjpa.post.util;
+
+import com.waterfogsw.springbootboardjpa.common.exception.PreconditionFailedException;
+import com.waterfogsw.springbootboardjpa.post.repository.dto.PostVersion;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Strong validators derived from the post's {@code @Version}, so conditional requests can be
+ * answered from a version lookup without loading the post itself.
+ */
+public final class PostETag {
+
+    private static final String DELIMITER = "-";
+    private static final String ANY = "*";
+
+    private PostETag() {
+    }
+
+    public static String of(PostVersion version) {
+        return quote(version.id() + DELIMITER + version.version());
+    }
+
+    public static String of(List<PostVersion> versions) {
+        return of(versions, null);
+    }
+
+    /**
+     * A page validator that also covers the total count sent with the page, if any.
+     */
+    public static String of(List<PostVersion> versions, Long total) {
+        final var raw = new StringBuilder();
+        versions.forEach(version -> raw.append(version.id())
+                .append(DELIMITER)
+                .append(version.version())
+                .append(';'));
+        if (total != null) {
+            raw.append("total").append(DELIMITER).append(total);
+        }
+
+        return quote(DigestUtils.md5DigestAsHex(raw.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Returns the version an {@code If-Match} header expects, or {@code null} for {@code *}.
+     */
+    public static Long parseVersion(long postId, String ifMatch) {
+        final var eTag = ifMatch.trim();
+        if (ANY.equals(eTag)) {
+            return null;
+        }
+
+        final var prefix = "\"" + postId + DELIMITER;
+        if (!eTag.startsWith(prefix) || !eTag.endsWith("\"")) {
+            throw new PreconditionFailedException("If-Match does not match the post");
+        }
+
+        try {
+            return Long.parseLong(eTag.substring(prefix.length(), eTag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException("If-Match does not match the post");
+        }
+    }
+
+    public static long lastModified(PostVersion version) {
+        return toEpochMilli(version.updatedAt());
+    }
+
+    public static long lastModified(List<PostVersion> versions) {
+        return versions.stream()
+                .map(PostVersion::updatedAt)
+                .filter(Objects::nonNull)
+                .max(LocalDateTime::compareTo)
+                .map(PostETag::toEpochMilli)
+                .orElse(-1L);
+    }
+
+    private static long toEpochMilli(LocalDateTime updatedAt) {
+        if (updatedAt == null) {
+            return -1;
+        }
+
+        return updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static String quote(String value) {
+        return "\"" + value + "\"";
+    }
+}
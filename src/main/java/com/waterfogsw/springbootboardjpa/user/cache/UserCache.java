@@ -0,0 +1,107 @@
+package com.waterfogsw.springbootboardjpa.user.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.waterfogsw.springbootboardjpa.user.service.dto.UserSnapshot;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+/**
+ * User snapshots by id, with a secondary e-mail to id index. Both are bounded and expire after write;
+ * every load or put fills both, and a miss on the e-mail index falls back to the loader.
+ * <p>
+ * Users are never deleted and never change e-mail, so an e-mail found in the index is known to be
+ * taken without asking the database.
+ */
+@Component
+public class UserCache {
+
+    private final Cache<Long, UserSnapshot> snapshots;
+    private final Cache<String, Long> idsByEmail;
+
+    public UserCache(
+            @Value("${board.cache.user.maximum-size:10000}") long maximumSize,
+            @Value("${board.cache.user.expire-after-write:5m}") Duration expireAfterWrite
+    ) {
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        this.idsByEmail = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+    }
+
+    public UserSnapshot get(long userId, LongFunction<UserSnapshot> loader) {
+        Assert.isTrue(userId > 0, "User id should be positive");
+        Assert.notNull(loader, "Loader should not be null");
+
+        return snapshots.get(userId, id -> {
+            final var snapshot = loader.apply(id);
+            idsByEmail.put(snapshot.email(), snapshot.id());
+            return snapshot;
+        });
+    }
+
+    /**
+     * Returns the snapshots of the given ids, loading every miss with a single call to the loader.
+     * Ids the loader does not return are left out of the result and are not cached.
+     */
+    public Map<Long, UserSnapshot> getAll(
+            Collection<Long> userIds,
+            Function<Set<Long>, Map<Long, UserSnapshot>> loader
+    ) {
+        Assert.notNull(userIds, "User ids should not be null");
+        Assert.notNull(loader, "Loader should not be null");
+
+        return snapshots.getAll(userIds, missingIds -> {
+            final var ids = new HashSet<Long>();
+            missingIds.forEach(ids::add);
+
+            final var loaded = loader.apply(ids);
+            loaded.values().forEach(snapshot -> idsByEmail.put(snapshot.email(), snapshot.id()));
+            return loaded;
+        });
+    }
+
+    public UserSnapshot getByEmail(String email, Function<String, UserSnapshot> loader) {
+        Assert.hasText(email, "Email should not be blank");
+        Assert.notNull(loader, "Loader should not be null");
+
+        final var userId = idsByEmail.getIfPresent(email);
+        if (userId != null) {
+            final var snapshot = snapshots.getIfPresent(userId);
+            if (snapshot != null) {
+                return snapshot;
+            }
+        }
+
+        final var snapshot = loader.apply(email);
+        put(snapshot);
+        return snapshot;
+    }
+
+    /**
+     * Whether the e-mail is known to be taken. {@code false} only means it is not in the index.
+     */
+    public boolean isEmailTaken(String email) {
+        return email != null && idsByEmail.getIfPresent(email) != null;
+    }
+
+    public void put(UserSnapshot snapshot) {
+        Assert.notNull(snapshot, "Snapshot should not be null");
+        snapshots.put(snapshot.id(), snapshot);
+        idsByEmail.put(snapshot.email(), snapshot.id());
+    }
+}
@@ -0,0 +1,105 @@
+package com.waterfogsw.springbootboardjpa.user.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.waterfogsw.springbootboardjpa.common.batch.BatchItem;
+import com.waterfogsw.springbootboardjpa.common.batch.BatchItemResponse;
+import com.waterfogsw.springbootboardjpa.common.batch.ChunkedBatchReader;
+import com.waterfogsw.springbootboardjpa.common.exception.ConflictException;
+import com.waterfogsw.springbootboardjpa.user.controller.dto.UserAddRequest;
+import com.waterfogsw.springbootboardjpa.user.service.UserService;
+import com.waterfogsw.springbootboardjpa.user.util.UserConverter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.validation.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Bulk registration of users. The body is either a JSON array or NDJSON; it is read as a stream
+ * and written in chunks, each chunk in its own transaction with a single e-mail uniqueness check.
+ * See {@link ChunkedBatchReader} for how invalid and malformed items are reported.
+ */
+@RestController
+public class UserBatchApiController {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final int CHUNK_ATTEMPTS = 2;
+
+    private final UserConverter userConverter;
+    private final UserService userService;
+    private final ChunkedBatchReader<UserAddRequest> batchReader;
+
+    public UserBatchApiController(
+            UserConverter userConverter,
+            UserService userService,
+            ObjectMapper objectMapper,
+            Validator validator
+    ) {
+        this.userConverter = userConverter;
+        this.userService = userService;
+        this.batchReader = new ChunkedBatchReader<>(objectMapper, validator, UserAddRequest.class, CHUNK_SIZE);
+    }
+
+    @PostMapping(
+            value = "api/v1/users:batch",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE}
+    )
+    public List<BatchItemResponse> addUsers(InputStream body) throws IOException {
+        return batchReader.read(body, this::write);
+    }
+
+    private List<BatchItemResponse> write(List<BatchItem<UserAddRequest>> chunk) {
+        for (var attempt = 0; attempt < CHUNK_ATTEMPTS; attempt++) {
+            try {
+                return register(chunk);
+            } catch (ConflictException e) {
+                // a concurrent registration took an e-mail after the chunk's check and the chunk rolled back,
+                // running it again repeats the check so only those rows are reported
+            }
+        }
+
+        // still racing, isolate the conflicting rows
+        return registerEach(chunk);
+    }
+
+    private List<BatchItemResponse> register(List<BatchItem<UserAddRequest>> chunk) {
+        // fresh entities on every attempt, a rolled back attempt leaves its ids behind
+        final var users = chunk.stream()
+                .map(BatchItem::value)
+                .map(userConverter::toEntity)
+                .collect(Collectors.toList());
+        userService.addUsers(users);
+
+        return IntStream.range(0, chunk.size())
+                .mapToObj(i -> toResult(chunk.get(i).index(), users.get(i).getId()))
+                .collect(Collectors.toList());
+    }
+
+    private List<BatchItemResponse> registerEach(List<BatchItem<UserAddRequest>> chunk) {
+        return chunk.stream()
+                .map(item -> {
+                    final var user = userConverter.toEntity(item.value());
+                    try {
+                        userService.addUser(user);
+                        return toResult(item.index(), user.getId());
+                    } catch (ConflictException e) {
+                        return toResult(item.index(), null);
+                    }
+                })
+                .collect(Collectors.toList());
+    }
+
+    private BatchItemResponse toResult(int index, Long userId) {
+        if (userId == null) {
+            return new BatchItemResponse(index, HttpStatus.CONFLICT.value(), null, "Email already exists");
+        }
+
+        return new BatchItemResponse(index, HttpStatus.CREATED.value(), userId, null);
+    }
+}
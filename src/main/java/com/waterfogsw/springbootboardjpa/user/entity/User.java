@@ -1,6 +1,8 @@
 package com.waterfogsw.springbootboardjpa.user.entity;
 
 import com.waterfogsw.springbootboardjpa.common.entity.BaseEntity;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.util.Assert;
 
 import javax.persistence.*;
@@ -9,9 +11,15 @@ import javax.validation.constraints.Min;
 import javax.validation.constraints.NotBlank;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
+@Table(uniqueConstraints = @UniqueConstraint(name = User.UK_EMAIL, columnNames = "email"))
 public class User extends BaseEntity {
+    public static final String UK_EMAIL = "UK_USER_EMAIL";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq")
+    @SequenceGenerator(name = "user_seq", sequenceName = "USER_SEQ", allocationSize = 50)
     private Long id;
 
     @NotBlank
@@ -20,7 +28,7 @@ public class User extends BaseEntity {
 
     @Email
     @NotBlank
-    @Column(updatable = false, unique = true)
+    @Column(updatable = false)
     private String email;
 
     @Min(0)
@@ -44,6 +52,10 @@ public class User extends BaseEntity {
         return new Builder();
     }
 
+    public Long getId() {
+        return id;
+    }
+
     public String getName() {
         return name;
     }
@@ -2,6 +2,17 @@ package com.waterfogsw.springbootboardjpa.user.repository;
 
 import com.waterfogsw.springbootboardjpa.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
+
+    Optional<User> findByEmail(String email);
+
+    @Query("select u.email from User u where u.email in :emails")
+    List<String> findEmailsIn(@Param("emails") Collection<String> emails);
 }
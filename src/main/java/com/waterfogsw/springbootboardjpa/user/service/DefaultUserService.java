@@ -1,34 +1,182 @@
 package com.waterfogsw.springbootboardjpa.user.service;
 
+import com.waterfogsw.springbootboardjpa.common.exception.ConflictException;
 import com.waterfogsw.springbootboardjpa.common.exception.ResourceNotFoundException;
+import com.waterfogsw.springbootboardjpa.user.cache.UserCache;
 import com.waterfogsw.springbootboardjpa.user.entity.User;
 import com.waterfogsw.springbootboardjpa.user.repository.UserRepository;
+import com.waterfogsw.springbootboardjpa.user.service.dto.UserSnapshot;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
-import org.springframework.validation.annotation.Validated;
 
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Transactional(readOnly = true)
 @Service
 public class DefaultUserService implements UserService {
 
+    // keep in line with hibernate.jdbc.batch_size
+    private static final int FLUSH_SIZE = 50;
+
     private final UserRepository userRepository;
+    private final UserCache userCache;
+    private final EntityManager em;
 
-    public DefaultUserService(UserRepository userRepository) {
+    public DefaultUserService(UserRepository userRepository, UserCache userCache, EntityManager em) {
         this.userRepository = userRepository;
+        this.userCache = userCache;
+        this.em = em;
     }
 
     @Override
     @Transactional
     public void addUser(User user) {
         Assert.notNull(user, "User should not be null");
-        userRepository.save(user);
+
+        if (userCache.isEmailTaken(user.getEmail())) {
+            throw new ConflictException("Email already exists");
+        }
+
+        try {
+            userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            if (isEmailViolation(e)) {
+                throw new ConflictException("Email already exists");
+            }
+            throw e;
+        }
+
+        cacheAfterCommit(List.of(UserSnapshot.from(user)));
     }
 
     @Override
     @Transactional
-    public User getOne(long id) {
+    public List<User> addUsers(List<User> users) {
+        Assert.notNull(users, "Users should not be null");
+
+        final var takenEmails = new HashSet<String>();
+        final var uncheckedEmails = new HashSet<String>();
+        for (final var user : users) {
+            if (userCache.isEmailTaken(user.getEmail())) {
+                takenEmails.add(user.getEmail());
+            } else {
+                uncheckedEmails.add(user.getEmail());
+            }
+        }
+        // one IN query for the e-mails the cache does not know, later duplicates within the batch are
+        // caught by the same set
+        if (!uncheckedEmails.isEmpty()) {
+            takenEmails.addAll(userRepository.findEmailsIn(uncheckedEmails));
+        }
+
+        final var saved = new ArrayList<User>(users.size());
+        try {
+            for (final var user : users) {
+                if (!takenEmails.add(user.getEmail())) {
+                    continue;
+                }
+
+                userRepository.save(user);
+                saved.add(user);
+
+                if (saved.size() % FLUSH_SIZE == 0) {
+                    // flush through the repository so constraint violations are translated
+                    userRepository.flush();
+                    em.clear();
+                }
+            }
+
+            userRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            // only reachable when a concurrent request registered one of the e-mails after the pre-check
+            if (isEmailViolation(e)) {
+                throw new ConflictException("Email already exists");
+            }
+            throw e;
+        }
+
+        em.clear();
+        cacheAfterCommit(saved.stream()
+                .map(UserSnapshot::from)
+                .toList());
+        return saved;
+    }
+
+    /**
+     * Served from the cache without opening a transaction; only a miss reads through the repository.
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public UserSnapshot getSnapshot(long id) {
         Assert.isTrue(id > 0, "User id should be positive");
-        return userRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("User not exist"));
+        return userCache.get(id, userId -> userRepository.findById(userId)
+                .map(UserSnapshot::from)
+                .orElseThrow(() -> new ResourceNotFoundException("User not exist")));
+    }
+
+    /**
+     * Cached snapshots are served without opening a transaction; all misses are read with one query.
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Map<Long, UserSnapshot> getSnapshots(Collection<Long> ids) {
+        Assert.notNull(ids, "Ids should not be null");
+        return userCache.getAll(ids, missingIds -> userRepository.findAllById(missingIds).stream()
+                .map(UserSnapshot::from)
+                .collect(Collectors.toMap(UserSnapshot::id, Function.identity())));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public UserSnapshot getSnapshotByEmail(String email) {
+        Assert.hasText(email, "Email should not be blank");
+        return userCache.getByEmail(email, userEmail -> userRepository.findByEmail(userEmail)
+                .map(UserSnapshot::from)
+                .orElseThrow(() -> new ResourceNotFoundException("User not exist")));
+    }
+
+    @Override
+    public User getReference(long id) {
+        Assert.isTrue(id > 0, "User id should be positive");
+        return userRepository.getById(id);
+    }
+
+    /**
+     * Writes new users through to the cache once they are committed, so a rolled back insert never
+     * leaves a snapshot or a taken e-mail behind.
+     */
+    private void cacheAfterCommit(List<UserSnapshot> snapshots) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            snapshots.forEach(userCache::put);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                snapshots.forEach(userCache::put);
+            }
+        });
+    }
+
+    private boolean isEmailViolation(DataIntegrityViolationException e) {
+        if (e.getCause() instanceof ConstraintViolationException violation) {
+            final var constraintName = violation.getConstraintName();
+            return constraintName != null && constraintName.toUpperCase().contains(User.UK_EMAIL);
+        }
+        return false;
     }
 }
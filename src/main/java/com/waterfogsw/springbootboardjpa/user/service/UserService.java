@@ -1,9 +1,29 @@
 package com.waterfogsw.springbootboardjpa.user.service;
 
 import com.waterfogsw.springbootboardjpa.user.entity.User;
+import com.waterfogsw.springbootboardjpa.user.service.dto.UserSnapshot;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 public interface UserService {
     void addUser(User User);
 
-    User getOne(long id);
+    /**
+     * Saves the users whose e-mail is not taken yet and returns them. Users with an e-mail that already
+     * exists, or that repeats an earlier one in the batch, are skipped and keep a null id.
+     */
+    List<User> addUsers(List<User> users);
+
+    UserSnapshot getSnapshot(long id);
+
+    /**
+     * Snapshots of the given users, read through the user cache. Ids that do not exist are left out.
+     */
+    Map<Long, UserSnapshot> getSnapshots(Collection<Long> ids);
+
+    UserSnapshot getSnapshotByEmail(String email);
+
+    User getReference(long id);
 }
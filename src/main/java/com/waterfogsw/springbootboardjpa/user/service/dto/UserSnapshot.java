@@ -0,0 +1,18 @@
+package com.waterfogsw.springbootboardjpa.user.service.dto;
+
+import com.waterfogsw.springbootboardjpa.user.entity.User;
+import org.springframework.util.Assert;
+
+/**
+ * Detached, immutable view of a user that can be shared across threads and transactions.
+ */
+public record UserSnapshot(
+        long id,
+        String name,
+        String email
+) {
+    public static UserSnapshot from(User user) {
+        Assert.notNull(user, "User should not be null");
+        return new UserSnapshot(user.getId(), user.getName(), user.getEmail());
+    }
+}
@@ -0,0 +1,33 @@
+create sequence user_seq start with 1 increment by 50;
+create sequence post_seq start with 1 increment by 50;
+
+create table user
+(
+    id         bigint       not null,
+    created_at timestamp    not null,
+    updated_at timestamp,
+    name       varchar(255) not null,
+    email      varchar(255) not null,
+    age        integer,
+    hobby      varchar(255),
+    constraint pk_user primary key (id),
+    constraint uk_user_email unique (email)
+);
+
+create table post
+(
+    id         bigint       not null,
+    created_at timestamp    not null,
+    updated_at timestamp,
+    version    bigint,
+    title      varchar(100) not null,
+    content    clob         not null,
+    user_id    bigint       not null,
+    constraint pk_post primary key (id)
+);
+
+create index idx_post_created_at_id on post (created_at desc, id desc);
+create index idx_post_user_created_at_id on post (user_id, created_at desc, id desc);
+
+alter table post
+    add constraint fk_post_user foreign key (user_id) references user (id);
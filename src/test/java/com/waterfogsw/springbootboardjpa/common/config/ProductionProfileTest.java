@@ -0,0 +1,50 @@
+package com.waterfogsw.springbootboardjpa.common.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Boots the application with the prod profile: the schema comes from Flyway and is only validated,
+ * and the pool publishes the metrics it is sized from.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.search.backend.directory.root=build/search-index")
+@ActiveProfiles("prod")
+class ProductionProfileTest {
+
+    private static final String POOL_NAME = "board-primary";
+
+    @Autowired
+    DataSource dataSource;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("커넥션 풀은 고정 크기로 설정된다")
+    void fixedSizePool() {
+        assertThat(dataSource).isInstanceOf(HikariDataSource.class);
+
+        final var hikari = (HikariDataSource) dataSource;
+        assertThat(hikari.getPoolName()).isEqualTo(POOL_NAME);
+        assertThat(hikari.getMinimumIdle()).isEqualTo(hikari.getMaximumPoolSize());
+    }
+
+    @Test
+    @DisplayName("커넥션 대기 시간, 활성/유휴 커넥션 수, 타임아웃 메트릭을 등록한다")
+    void poolMetrics() {
+        assertThat(meterRegistry.find("hikaricp.connections.acquire").tag("pool", POOL_NAME).timer()).isNotNull();
+        assertThat(meterRegistry.find("hikaricp.connections.active").tag("pool", POOL_NAME).gauge()).isNotNull();
+        assertThat(meterRegistry.find("hikaricp.connections.idle").tag("pool", POOL_NAME).gauge()).isNotNull();
+        assertThat(meterRegistry.find("hikaricp.connections.pending").tag("pool", POOL_NAME).gauge()).isNotNull();
+        assertThat(meterRegistry.find("hikaricp.connections.timeout").tag("pool", POOL_NAME).counter()).isNotNull();
+    }
+}
@@ -0,0 +1,95 @@
+package com.waterfogsw.springbootboardjpa.common.config;
+
+import com.waterfogsw.springbootboardjpa.SpringbootBoardJpaApplication;
+import com.waterfogsw.springbootboardjpa.common.load.LoadGenerator;
+import com.waterfogsw.springbootboardjpa.common.load.LoadResult;
+import com.waterfogsw.springbootboardjpa.post.entity.Post;
+import com.waterfogsw.springbootboardjpa.post.repository.PostRepository;
+import com.waterfogsw.springbootboardjpa.user.entity.User;
+import com.waterfogsw.springbootboardjpa.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Starts the application once per thread mode, fires the same JDBC-bound requests at each with a fixed
+ * number in flight and prints both results with the virtual to platform ratios, so the modes are compared
+ * under identical load with {@code ./gradlew loadTest}.
+ */
+@Tag("load")
+class ThreadModeLoadTest {
+
+    private static final int CONCURRENCY = 500;
+    private static final int REQUESTS = 10_000;
+
+    @Test
+    @DisplayName("플랫폼 스레드와 가상 스레드의 처리량과 지연 시간을 비교한다")
+    void compareThreadModes() throws InterruptedException {
+        assumeTrue(supportsVirtualThreads(), "Virtual threads are not available on this JDK");
+
+        //when
+        final var platform = run("platform");
+        final var virtual = run("virtual", "virtual-threads");
+
+        //then
+        System.out.println(platform);
+        System.out.println(virtual);
+        System.out.printf("virtual/platform  throughput x%.2f  p50 x%.2f  p99 x%.2f  p99.9 x%.2f%n",
+                virtual.throughput() / platform.throughput(),
+                ratio(virtual, platform, 50),
+                ratio(virtual, platform, 99),
+                ratio(virtual, platform, 99.9));
+        assertEquals(0, platform.failures());
+        assertEquals(0, virtual.failures());
+    }
+
+    private static LoadResult run(String mode, String... profiles) throws InterruptedException {
+        try (final var context = new SpringApplicationBuilder(SpringbootBoardJpaApplication.class)
+                .profiles(profiles)
+                .properties("server.port=0", "spring.jpa.show-sql=false")
+                .run()) {
+            final var user = context.getBean(UserRepository.class).save(User.builder()
+                    .name("load")
+                    .email("load@naver.com")
+                    .build());
+
+            final var post = Post.builder()
+                    .title("load")
+                    .content("load")
+                    .build();
+            post.updateAuthor(user);
+            final var postId = context.getBean(PostRepository.class).save(post).getId();
+
+            final var port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            final var uri = URI.create("http://localhost:" + port + "/api/v1/posts/" + postId + "?fields=summary");
+            final var generator = new LoadGenerator(CONCURRENCY);
+
+            generator.run(mode, REQUESTS / 10, 200, () -> HttpRequest.newBuilder(uri).GET().build());
+            return generator.run(mode, REQUESTS, 200, () -> HttpRequest.newBuilder(uri).GET().build());
+        }
+    }
+
+    private static double ratio(LoadResult virtual, LoadResult platform, double percentile) {
+        return virtual.percentileMillis(percentile) / platform.percentileMillis(percentile);
+    }
+
+    private static boolean supportsVirtualThreads() {
+        try {
+            final var factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            ((ExecutorService) factory.invoke(null)).shutdown();
+            return true;
+        } catch (ReflectiveOperationException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.waterfogsw.springbootboardjpa.common.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two separate in-memory H2 databases stand in for the primary and the replica; each one reports its
+ * own name, so the test can see where a transaction was routed.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private ReplicaRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        routingDataSource = new ReplicaRoutingDataSource(
+                h2("routing-primary"),
+                List.of(h2("routing-replica-0"), h2("routing-replica-1"))
+        );
+        routingDataSource.afterPropertiesSet();
+
+        final var dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        final var transactionManager = new DataSourceTransactionManager(dataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWritesContext.clear();
+    }
+
+    private static DataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("select database()", String.class);
+    }
+
+    @Nested
+    @DisplayName("읽기 전용 트랜잭션은")
+    class Describe_readOnlyTransaction {
+
+        @Test
+        @DisplayName("replica 들에 번갈아 라우팅된다")
+        void It_RouteToReplicasInTurn() {
+            //when
+            final var first = readOnlyTransaction.execute(status -> currentDatabase());
+            final var second = readOnlyTransaction.execute(status -> currentDatabase());
+
+            //then
+            assertThat(first).isEqualToIgnoringCase("routing-replica-0");
+            assertThat(second).isEqualToIgnoringCase("routing-replica-1");
+        }
+
+        @Test
+        @DisplayName("primary 에 고정된 스레드에서는 primary 로 라우팅된다")
+        void It_RouteToPrimaryWhenPinned() {
+            //given
+            ReadYourWritesContext.pinToPrimary();
+
+            //when
+            final var database = readOnlyTransaction.execute(status -> currentDatabase());
+
+            //then
+            assertThat(database).isEqualToIgnoringCase("routing-primary");
+        }
+    }
+
+    @Nested
+    @DisplayName("쓰기 트랜잭션은")
+    class Describe_writeTransaction {
+
+        @Test
+        @DisplayName("primary 로 라우팅된다")
+        void It_RouteToPrimary() {
+            //when
+            final var database = writeTransaction.execute(status -> currentDatabase());
+
+            //then
+            assertThat(database).isEqualToIgnoringCase("routing-primary");
+        }
+    }
+}
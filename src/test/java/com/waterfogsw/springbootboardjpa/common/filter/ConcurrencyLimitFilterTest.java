@@ -0,0 +1,102 @@
+package com.waterfogsw.springbootboardjpa.common.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ConcurrencyLimitFilterTest {
+
+    @Nested
+    @DisplayName("생성자는")
+    class Describe_constructor {
+
+        @Test
+        @DisplayName("최대 동시 요청 수가 양수가 아니면 IllegalArgumentException 이 발생한다")
+        void It_ThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> new ConcurrencyLimitFilter(0, Duration.ZERO));
+        }
+    }
+
+    @Nested
+    @DisplayName("doFilter 메서드는")
+    class Describe_doFilter {
+
+        @Nested
+        @DisplayName("허용량이 남아 있으면")
+        class Context_with_AvailablePermit {
+
+            @Test
+            @DisplayName("요청을 처리하고 허용량을 반환한다")
+            void It_PassRequest() throws Exception {
+                //given
+                final var filter = new ConcurrencyLimitFilter(1, Duration.ZERO);
+                final var first = new MockHttpServletResponse();
+                final var second = new MockHttpServletResponse();
+
+                //when
+                filter.doFilter(new MockHttpServletRequest(), first, new MockFilterChain());
+                filter.doFilter(new MockHttpServletRequest(), second, new MockFilterChain());
+
+                //then
+                assertEquals(HttpStatus.OK.value(), first.getStatus());
+                assertEquals(HttpStatus.OK.value(), second.getStatus());
+            }
+        }
+
+        @Nested
+        @DisplayName("허용량을 모두 사용 중이면")
+        class Context_with_NoPermit {
+
+            @Test
+            @DisplayName("ServiceUnavailable 을 응답한다")
+            void It_ResponseServiceUnavailable() throws Exception {
+                //given
+                final var filter = new ConcurrencyLimitFilter(1, Duration.ZERO);
+                final var inner = new MockHttpServletResponse();
+
+                //when
+                filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(),
+                        (request, response) -> filter.doFilter(new MockHttpServletRequest(), inner, new MockFilterChain()));
+
+                //then
+                assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), inner.getStatus());
+            }
+        }
+
+        @Nested
+        @DisplayName("비동기 요청이면")
+        class Context_with_AsyncRequest {
+
+            @Test
+            @DisplayName("비동기 처리가 끝날 때 허용량을 반환한다")
+            void It_HoldPermitUntilAsyncCompletes() throws Exception {
+                //given
+                final var filter = new ConcurrencyLimitFilter(1, Duration.ZERO);
+                final var asyncRequest = new MockHttpServletRequest();
+                asyncRequest.setAsyncSupported(true);
+                final var whileAsync = new MockHttpServletResponse();
+                final var afterAsync = new MockHttpServletResponse();
+
+                //when
+                filter.doFilter(asyncRequest, new MockHttpServletResponse(), (request, response) -> request.startAsync());
+                filter.doFilter(new MockHttpServletRequest(), whileAsync, new MockFilterChain());
+                asyncRequest.getAsyncContext().complete();
+                filter.doFilter(new MockHttpServletRequest(), afterAsync, new MockFilterChain());
+
+                //then
+                assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), whileAsync.getStatus());
+                assertEquals(HttpStatus.OK.value(), afterAsync.getStatus());
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.waterfogsw.springbootboardjpa.common.filter;
+
+import com.waterfogsw.springbootboardjpa.common.datasource.ReadYourWritesContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.FilterChain;
+import javax.servlet.http.Cookie;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReadYourWritesFilterTest {
+
+    private static final Instant NOW = Instant.parse("2022-01-01T00:00:00Z");
+
+    private final ReadYourWritesFilter filter = new ReadYourWritesFilter(
+            Duration.ofSeconds(5),
+            Clock.fixed(NOW, ZoneOffset.UTC)
+    );
+
+    private final AtomicBoolean pinned = new AtomicBoolean();
+
+    private final FilterChain chain = (request, response) -> pinned.set(ReadYourWritesContext.isPinnedToPrimary());
+
+    @Nested
+    @DisplayName("doFilter 메서드는")
+    class Describe_doFilter {
+
+        @Nested
+        @DisplayName("쓰기 요청이면")
+        class Context_with_UnsafeMethod {
+
+            @Test
+            @DisplayName("쓰기 시각 쿠키를 내려주고 primary 에 고정한다")
+            void It_SetCookieAndPin() throws Exception {
+                //given
+                final var response = new MockHttpServletResponse();
+
+                //when
+                filter.doFilter(new MockHttpServletRequest("PUT", "/api/v1/posts/1"), response, chain);
+
+                //then
+                final var cookie = response.getCookie(ReadYourWritesFilter.COOKIE_NAME);
+                assertNotNull(cookie);
+                assertEquals(Long.toString(NOW.toEpochMilli()), cookie.getValue());
+                assertTrue(pinned.get());
+                assertFalse(ReadYourWritesContext.isPinnedToPrimary());
+            }
+        }
+
+        @Nested
+        @DisplayName("최근 쓰기 쿠키가 있는 읽기 요청이면")
+        class Context_with_RecentWrite {
+
+            @Test
+            @DisplayName("primary 에 고정한다")
+            void It_Pin() throws Exception {
+                //given
+                final var request = new MockHttpServletRequest("GET", "/api/v1/posts/1");
+                request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME,
+                        Long.toString(NOW.minusSeconds(1).toEpochMilli())));
+
+                //when
+                filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+                //then
+                assertTrue(pinned.get());
+            }
+        }
+
+        @Nested
+        @DisplayName("쓰기 쿠키가 없거나 오래된 읽기 요청이면")
+        class Context_with_NoRecentWrite {
+
+            @Test
+            @DisplayName("primary 에 고정하지 않는다")
+            void It_NotPin() throws Exception {
+                //given
+                final var stale = new MockHttpServletRequest("GET", "/api/v1/posts/1");
+                stale.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME,
+                        Long.toString(NOW.minusSeconds(10).toEpochMilli())));
+
+                //when
+                filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/posts/1"), new MockHttpServletResponse(), chain);
+                final var withoutCookie = pinned.get();
+                filter.doFilter(stale, new MockHttpServletResponse(), chain);
+
+                //then
+                assertFalse(withoutCookie);
+                assertFalse(pinned.get());
+            }
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.waterfogsw.springbootboardjpa.common.load;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.waterfogsw.springbootboardjpa.post.entity.Post;
+import com.waterfogsw.springbootboardjpa.post.service.PostService;
+import com.waterfogsw.springbootboardjpa.post.service.dto.PostDraft;
+import com.waterfogsw.springbootboardjpa.user.entity.User;
+import com.waterfogsw.springbootboardjpa.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Loads each public write and read endpoint of the running application in turn and writes
+ * p50/p99/p99.9 and throughput per endpoint to {@code load.report}. {@code ./gradlew checkLoadBaseline}
+ * compares that report against the stored baseline.
+ * <p>
+ * Data sizes come from system properties: {@code load.users}, {@code load.posts},
+ * {@code load.content-length}, {@code load.requests} and {@code load.concurrency}.
+ */
+@Tag("load")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"spring.jpa.show-sql=false", "spring.jpa.properties.hibernate.format_sql=false"}
+)
+class EndpointLoadTest {
+
+    private static final int USERS = Integer.getInteger("load.users", 100);
+    private static final int POSTS = Integer.getInteger("load.posts", 1_000);
+    private static final int CONTENT_LENGTH = Integer.getInteger("load.content-length", 1_000);
+    private static final int REQUESTS = Integer.getInteger("load.requests", 2_000);
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 64);
+    private static final String REPORT = System.getProperty("load.report", "build/load-test/latency.properties");
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    PostService postService;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    private final List<Post> posts = new ArrayList<>();
+    private final AtomicInteger userSequence = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        final var users = userRepository.saveAll(IntStream.range(0, USERS)
+                .mapToObj(i -> User.builder()
+                        .name("seed" + i)
+                        .email("seed" + i + "@naver.com")
+                        .build())
+                .toList());
+
+        final var content = "a".repeat(CONTENT_LENGTH);
+        final var drafts = IntStream.range(0, POSTS)
+                .mapToObj(i -> new PostDraft(users.get(i % USERS).getId(), Post.builder()
+                        .title("seed" + i)
+                        .content(content)
+                        .build()))
+                .toList();
+
+        posts.addAll(postService.addPosts(drafts));
+    }
+
+    @Test
+    @DisplayName("엔드포인트별 지연 시간 분포와 처리량을 기록한다")
+    void recordLatencies() throws Exception {
+        //given
+        final var generator = new LoadGenerator(CONCURRENCY);
+        final var content = "b".repeat(CONTENT_LENGTH);
+        final var scenarios = new LinkedHashMap<String, Scenario>();
+        scenarios.put("user-create", new Scenario(201, () -> post("/api/v1/users", Map.of(
+                "name", "load",
+                "email", "load" + userSequence.incrementAndGet() + "@naver.com",
+                "age", 20))));
+        scenarios.put("post-create", new Scenario(201, () -> {
+            final var author = randomPost().getUser().getId();
+            return post("/api/v1/posts", Map.of("title", "load", "content", content, "userId", author));
+        }));
+        scenarios.put("post-update", new Scenario(200, () -> {
+            final var target = randomPost();
+            return put("/api/v1/posts/" + target.getId(), Map.of(
+                    "title", "updated", "content", content, "userId", target.getUser().getId()));
+        }));
+        scenarios.put("post-get", new Scenario(200, () -> get("/api/v1/posts/" + randomPost().getId())));
+        scenarios.put("post-list", new Scenario(200, () -> get("/api/v1/posts?page=0&size=20")));
+
+        //when
+        final var report = new Properties();
+        var failures = 0;
+        for (final var scenario : scenarios.entrySet()) {
+            generator.run(scenario.getKey(), Math.max(1, REQUESTS / 10), scenario.getValue().status(), scenario.getValue().request());
+            final var result = generator.run(scenario.getKey(), REQUESTS, scenario.getValue().status(), scenario.getValue().request());
+
+            System.out.println(result);
+            result.writeTo(report);
+            failures += result.failures();
+        }
+        writeReport(report);
+
+        //then
+        assertEquals(0, failures);
+    }
+
+    private Post randomPost() {
+        return posts.get(ThreadLocalRandom.current().nextInt(posts.size()));
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(uri(path)).GET().build();
+    }
+
+    private HttpRequest post(String path, Map<String, Object> body) {
+        return HttpRequest.newBuilder(uri(path))
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(toJson(body)))
+                .build();
+    }
+
+    private HttpRequest put(String path, Map<String, Object> body) {
+        return HttpRequest.newBuilder(uri(path))
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(toJson(body)))
+                .build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private byte[] toJson(Map<String, Object> body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void writeReport(Properties report) {
+        final var path = Path.of(REPORT);
+        try {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            try (OutputStream out = Files.newOutputStream(path)) {
+                report.store(out, "Endpoint latency in milliseconds");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record Scenario(int status, Supplier<HttpRequest> request) {
+    }
+}
@@ -0,0 +1,66 @@
+package com.waterfogsw.springbootboardjpa.common.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.springframework.util.Assert;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Closed-loop HTTP load generator. It keeps {@code concurrency} requests in flight and records each
+ * response time in an HdrHistogram.
+ */
+public class LoadGenerator {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    private final int concurrency;
+
+    public LoadGenerator(int concurrency) {
+        Assert.isTrue(concurrency > 0, "Concurrency should be positive");
+        this.concurrency = concurrency;
+    }
+
+    public LoadResult run(String name, int requests, int expectedStatus, Supplier<HttpRequest> requestSupplier)
+            throws InterruptedException {
+        Assert.hasText(name, "Name should not be blank");
+        Assert.isTrue(requests > 0, "Requests should be positive");
+
+        final var histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+        final var inFlight = new Semaphore(concurrency);
+        final var failures = new AtomicInteger();
+        final List<CompletableFuture<?>> responses = new ArrayList<>(requests);
+
+        final var startedAt = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            inFlight.acquire();
+            final var request = requestSupplier.get();
+            final var sentAt = System.nanoTime();
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .handle((response, e) -> {
+                        histogram.recordValue(Math.min(System.nanoTime() - sentAt, HIGHEST_TRACKABLE_NANOS));
+                        if (e != null || response.statusCode() != expectedStatus) {
+                            failures.incrementAndGet();
+                        }
+                        inFlight.release();
+                        return null;
+                    }));
+        }
+        CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new)).join();
+
+        return new LoadResult(name, histogram, Duration.ofNanos(System.nanoTime() - startedAt), failures.get());
+    }
+}
@@ -0,0 +1,41 @@
+package com.waterfogsw.springbootboardjpa.common.load;
+
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.Properties;
+
+public record LoadResult(
+        String name,
+        Histogram histogram,
+        Duration elapsed,
+        int failures
+) {
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    public double percentileMillis(double percentile) {
+        return histogram.getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+    }
+
+    public double throughput() {
+        return histogram.getTotalCount() * 1000.0 / Math.max(1, elapsed.toMillis());
+    }
+
+    public void writeTo(Properties report) {
+        report.setProperty(name + ".p50.ms", format(percentileMillis(50)));
+        report.setProperty(name + ".p99.ms", format(percentileMillis(99)));
+        report.setProperty(name + ".p999.ms", format(percentileMillis(99.9)));
+        report.setProperty(name + ".throughput.rps", format(throughput()));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-12s %7d req %9.1f req/s  p50 %8.2f ms  p99 %8.2f ms  p99.9 %8.2f ms  failures %d",
+                name, histogram.getTotalCount(), throughput(),
+                percentileMillis(50), percentileMillis(99), percentileMillis(99.9), failures);
+    }
+
+    private static String format(double value) {
+        return String.format("%.3f", value);
+    }
+}
@@ -0,0 +1,109 @@
+package com.waterfogsw.springbootboardjpa.common.metrics;
+
+import com.waterfogsw.springbootboardjpa.common.exception.ResourceNotFoundException;
+import com.waterfogsw.springbootboardjpa.user.entity.User;
+import com.waterfogsw.springbootboardjpa.user.service.UserService;
+import com.waterfogsw.springbootboardjpa.user.service.dto.UserSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ServiceMetricsAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserService userService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+
+        final var proxyFactory = new AspectJProxyFactory(new StubUserService());
+        proxyFactory.addAspect(new ServiceMetricsAspect(meterRegistry));
+        userService = proxyFactory.getProxy();
+    }
+
+    @Nested
+    @DisplayName("서비스 메서드가 호출되면")
+    class Describe_invocation {
+
+        @Nested
+        @DisplayName("정상 반환하면")
+        class Context_with_Returned {
+
+            @Test
+            @DisplayName("exception 태그 None 으로 시간을 기록한다")
+            void It_RecordTimer() {
+                //when
+                userService.getSnapshots(List.of(1L));
+
+                //then
+                final var timer = meterRegistry.get(ServiceMetricsAspect.METRIC_NAME)
+                        .tag("method", "getSnapshots")
+                        .tag("exception", "None")
+                        .timer();
+                assertEquals(1, timer.count());
+            }
+        }
+
+        @Nested
+        @DisplayName("예외가 발생하면")
+        class Context_with_Thrown {
+
+            @Test
+            @DisplayName("예외 이름을 태그로 시간을 기록하고 예외를 다시 던진다")
+            void It_RecordTimerAndRethrow() {
+                //when
+                assertThrows(ResourceNotFoundException.class, () -> userService.getSnapshot(1L));
+
+                //then
+                final var timer = meterRegistry.get(ServiceMetricsAspect.METRIC_NAME)
+                        .tag("method", "getSnapshot")
+                        .tag("exception", "ResourceNotFoundException")
+                        .timer();
+                assertEquals(1, timer.count());
+            }
+        }
+    }
+
+    static class StubUserService implements UserService {
+
+        @Override
+        public void addUser(User user) {
+        }
+
+        @Override
+        public List<User> addUsers(List<User> users) {
+            return users;
+        }
+
+        @Override
+        public UserSnapshot getSnapshot(long id) {
+            throw new ResourceNotFoundException("User not exist");
+        }
+
+        @Override
+        public User getReference(long id) {
+            return null;
+        }
+
+        @Override
+        public Map<Long, UserSnapshot> getSnapshots(Collection<Long> ids) {
+            return Map.of();
+        }
+
+        @Override
+        public UserSnapshot getSnapshotByEmail(String email) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.waterfogsw.springbootboardjpa.common.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SqlStatementCounterTest {
+
+    private final SqlStatementCounter sqlStatementCounter = new SqlStatementCounter();
+
+    @Nested
+    @DisplayName("stop 메서드는")
+    class Describe_stop {
+
+        @Nested
+        @DisplayName("start 이후 실행된 SQL 이 있으면")
+        class Context_with_Started {
+
+            @Test
+            @DisplayName("실행된 SQL 개수를 반환한다")
+            void It_ResponseCount() {
+                //given
+                sqlStatementCounter.inspect("select 1");
+                sqlStatementCounter.start();
+                sqlStatementCounter.inspect("select 1");
+                sqlStatementCounter.inspect("select 2");
+
+                //when
+                final var count = sqlStatementCounter.stop();
+
+                //then
+                assertEquals(2, count);
+            }
+        }
+
+        @Nested
+        @DisplayName("start 되지 않았으면")
+        class Context_with_NotStarted {
+
+            @Test
+            @DisplayName("0 을 반환한다")
+            void It_ResponseZero() {
+                //given
+                sqlStatementCounter.inspect("select 1");
+
+                //when
+                final var count = sqlStatementCounter.stop();
+
+                //then
+                assertEquals(0, count);
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.waterfogsw.springbootboardjpa.common.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.DispatcherType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class SqlStatementMetricsInterceptorTest {
+
+    private final SqlStatementCounter sqlStatementCounter = new SqlStatementCounter();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SqlStatementMetricsInterceptor interceptor =
+            new SqlStatementMetricsInterceptor(sqlStatementCounter, meterRegistry);
+
+    private MockHttpServletRequest generateRequest() {
+        final var request = new MockHttpServletRequest("GET", "/api/v1/posts/1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/posts/{id}");
+        return request;
+    }
+
+    @Nested
+    @DisplayName("afterCompletion 메서드는")
+    class Describe_afterCompletion {
+
+        @Nested
+        @DisplayName("동기 요청이면")
+        class Context_with_SyncRequest {
+
+            @Test
+            @DisplayName("요청 스레드에서 실행된 SQL 개수를 기록한다")
+            void It_RecordCount() {
+                //given
+                final var request = generateRequest();
+                final var response = new MockHttpServletResponse();
+                interceptor.preHandle(request, response, new Object());
+                sqlStatementCounter.inspect("select 1");
+
+                //when
+                interceptor.afterCompletion(request, response, new Object(), null);
+
+                //then
+                final var summary = meterRegistry.get(SqlStatementMetricsInterceptor.METRIC_NAME)
+                        .tag("uri", "/api/v1/posts/{id}")
+                        .summary();
+                assertEquals(1, summary.count());
+                assertEquals(1, summary.totalAmount());
+            }
+        }
+
+        @Nested
+        @DisplayName("비동기 처리를 시작한 요청이면")
+        class Context_with_AsyncRequest {
+
+            @Test
+            @DisplayName("다른 스레드의 SQL 을 셀 수 없으므로 기록하지 않는다")
+            void It_SkipRecording() {
+                //given
+                final var request = generateRequest();
+                final var response = new MockHttpServletResponse();
+                interceptor.preHandle(request, response, new Object());
+                interceptor.afterConcurrentHandlingStarted(request, response, new Object());
+                request.setDispatcherType(DispatcherType.ASYNC);
+                interceptor.preHandle(request, response, new Object());
+
+                //when
+                interceptor.afterCompletion(request, response, new Object(), null);
+
+                //then
+                assertNull(meterRegistry.find(SqlStatementMetricsInterceptor.METRIC_NAME).summary());
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.waterfogsw.springbootboardjpa.common.query;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Fails the test when the statements it executed differ from the expected counts. The count covers
+ * the test method only, not {@code @BeforeEach}. Statements still waiting for a flush when the method
+ * returns are not counted. A negative value means that kind is not checked.
+ * <p>
+ * The test context must import {@link QueryCountConfig}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(ExpectedQueriesExtension.class)
+public @interface ExpectedQueries {
+
+    int select() default -1;
+
+    int insert() default -1;
+
+    int update() default -1;
+
+    int delete() default -1;
+}
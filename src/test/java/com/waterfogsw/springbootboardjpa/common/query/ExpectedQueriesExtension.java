@@ -0,0 +1,43 @@
+package com.waterfogsw.springbootboardjpa.common.query;
+
+import net.ttddyy.dsproxy.QueryCountHolder;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class ExpectedQueriesExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        QueryCountHolder.clear();
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        final var expected = AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), ExpectedQueries.class)
+                .orElseThrow();
+        final var actual = QueryCountHolder.getGrandTotal();
+        QueryCountHolder.clear();
+
+        final var mismatches = new ArrayList<String>();
+        check(mismatches, "select", expected.select(), actual.getSelect());
+        check(mismatches, "insert", expected.insert(), actual.getInsert());
+        check(mismatches, "update", expected.update(), actual.getUpdate());
+        check(mismatches, "delete", expected.delete(), actual.getDelete());
+
+        if (!mismatches.isEmpty()) {
+            fail("Unexpected query count: " + String.join(", ", mismatches));
+        }
+    }
+
+    private static void check(ArrayList<String> mismatches, String type, int expected, long actual) {
+        if (expected >= 0 && expected != actual) {
+            mismatches.add(type + " expected " + expected + " but was " + actual);
+        }
+    }
+}
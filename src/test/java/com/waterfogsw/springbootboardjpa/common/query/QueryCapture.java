@@ -0,0 +1,66 @@
+package com.waterfogsw.springbootboardjpa.common.query;
+
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Statements executed through the DataSource wrapped by {@link QueryCaptureConfig}.
+ */
+public class QueryCapture {
+
+    private final List<CapturedQuery> queries = new CopyOnWriteArrayList<>();
+
+    public void clear() {
+        queries.clear();
+    }
+
+    public CapturedQuery lastSelect() {
+        for (int i = queries.size() - 1; i >= 0; i--) {
+            final var query = queries.get(i);
+            if (query.sql().stripLeading().toLowerCase(Locale.ROOT).startsWith("select")) {
+                return query;
+            }
+        }
+
+        throw new IllegalStateException("No select was captured");
+    }
+
+    void record(List<QueryInfo> queryInfoList) {
+        for (final var queryInfo : queryInfoList) {
+            if (queryInfo.getParametersList().isEmpty()) {
+                queries.add(new CapturedQuery(queryInfo.getQuery(), List.of()));
+            }
+
+            for (final var parameters : queryInfo.getParametersList()) {
+                queries.add(new CapturedQuery(queryInfo.getQuery(), values(parameters)));
+            }
+        }
+    }
+
+    private static List<Object> values(List<ParameterSetOperation> parameters) {
+        final var sorted = new ArrayList<>(parameters);
+        sorted.sort(Comparator.comparingInt(operation -> (Integer) operation.getArgs()[0]));
+
+        final var values = new ArrayList<>(sorted.size());
+        for (final var operation : sorted) {
+            final var isNull = "setNull".equals(operation.getMethod().getName());
+            values.add(isNull ? null : operation.getArgs()[1]);
+        }
+        return values;
+    }
+
+    public record CapturedQuery(String sql, List<Object> parameters) {
+
+        @Override
+        public String toString() {
+            return sql + " " + Arrays.toString(parameters.toArray());
+        }
+    }
+}
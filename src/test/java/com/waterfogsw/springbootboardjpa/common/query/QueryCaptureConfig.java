@@ -0,0 +1,40 @@
+package com.waterfogsw.springbootboardjpa.common.query;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the test DataSource so the SQL Hibernate generates, with its bound parameters, is recorded in
+ * {@link QueryCapture}.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class QueryCaptureConfig {
+
+    @Bean
+    public QueryCapture queryCapture() {
+        return new QueryCapture();
+    }
+
+    @Bean
+    public static BeanPostProcessor queryCaptureDataSourcePostProcessor(ObjectProvider<QueryCapture> queryCapture) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .afterQuery((execInfo, queryInfoList) -> queryCapture.getObject().record(queryInfoList))
+                            .build();
+                }
+
+                return bean;
+            }
+        };
+    }
+}
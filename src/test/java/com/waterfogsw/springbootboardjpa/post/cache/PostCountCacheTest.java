@@ -0,0 +1,40 @@
+package com.waterfogsw.springbootboardjpa.post.cache;
+
+import com.waterfogsw.springbootboardjpa.post.service.PostService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class PostCountCacheTest {
+
+    @Nested
+    @DisplayName("get 메서드는")
+    class Describe_get {
+
+        @Test
+        @DisplayName("갱신 주기 안에서는 게시물 수를 한 번만 센다")
+        void It_CountOncePerRefresh() {
+            //given
+            final var postService = mock(PostService.class);
+            given(postService.count()).willReturn(42L);
+            final var postCountCache = new PostCountCache(postService, Duration.ofMinutes(1));
+
+            //when
+            final var first = postCountCache.get();
+            final var second = postCountCache.get();
+
+            //then
+            assertEquals(42L, first);
+            assertEquals(42L, second);
+            verify(postService, times(1)).count();
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.waterfogsw.springbootboardjpa.post.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.waterfogsw.springbootboardjpa.common.datasource.ReadYourWritesContext;
+import com.waterfogsw.springbootboardjpa.common.datasource.ReplicaRoutingDataSource;
+import com.waterfogsw.springbootboardjpa.common.exception.ResourceNotFoundException;
+import com.waterfogsw.springbootboardjpa.post.controller.dto.PostResponse;
+import com.waterfogsw.springbootboardjpa.post.entity.Post;
+import com.waterfogsw.springbootboardjpa.post.event.PostUpdatedEvent;
+import com.waterfogsw.springbootboardjpa.post.util.PostConverter;
+import com.waterfogsw.springbootboardjpa.user.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PostResponseCacheTest {
+
+    private PostResponseCache postResponseCache;
+
+    @BeforeEach
+    void setUp() {
+        postResponseCache = new PostResponseCache(
+                new PostConverter(),
+                new ObjectMapper(),
+                1024 * 1024,
+                Duration.ofMinutes(1)
+        );
+    }
+
+    private Post generateTestPost() {
+        final var user = User.builder()
+                .name("test")
+                .email("test@naver.com")
+                .build();
+
+        return Post.builder()
+                .title("test")
+                .content("test")
+                .user(user)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("get 메서드는")
+    class Describe_get {
+
+        @Test
+        @DisplayName("직렬화된 PostResponse 를 반환한다")
+        void It_ReturnSerializedResponse() throws Exception {
+            final var renderedPost = postResponseCache.get(1L, () -> generateTestPost());
+
+            final var response = new ObjectMapper().readValue(renderedPost.body(), PostResponse.class);
+            assertEquals("test", response.title());
+        }
+
+        @Test
+        @DisplayName("동시에 요청되어도 한번만 로드한다")
+        void It_LoadOnce() {
+            final var loadCount = new AtomicInteger();
+            final var start = new CountDownLatch(1);
+            final var executor = Executors.newFixedThreadPool(8);
+
+            try {
+                final var futures = IntStream.range(0, 8)
+                        .mapToObj(i -> CompletableFuture.runAsync(() -> {
+                            awaitQuietly(start);
+                            postResponseCache.get(1L, () -> {
+                                loadCount.incrementAndGet();
+                                return generateTestPost();
+                            });
+                        }, executor))
+                        .toArray(CompletableFuture[]::new);
+
+                start.countDown();
+                CompletableFuture.allOf(futures).join();
+            } finally {
+                executor.shutdown();
+            }
+
+            assertEquals(1, loadCount.get());
+        }
+
+        @Test
+        @DisplayName("다른 게시물의 로드가 끝나지 않아도 기다리지 않는다")
+        void It_NotBlockOtherKeys() throws Exception {
+            final var loading = new CountDownLatch(1);
+            final var release = new CountDownLatch(1);
+            final var executor = Executors.newSingleThreadExecutor();
+
+            try {
+                final var slowLoad = CompletableFuture.runAsync(() -> postResponseCache.get(1L, () -> {
+                    loading.countDown();
+                    awaitQuietly(release);
+                    return generateTestPost();
+                }), executor);
+                loading.await();
+
+                final var renderedPost = CompletableFuture
+                        .supplyAsync(() -> postResponseCache.get(2L, () -> generateTestPost()))
+                        .get(5, TimeUnit.SECONDS);
+
+                assertEquals(2L, renderedPost.postId());
+                release.countDown();
+                slowLoad.join();
+            } finally {
+                release.countDown();
+                executor.shutdown();
+            }
+        }
+
+        @Test
+        @DisplayName("로드가 실패하면 원래 예외를 던지고 다음 요청에서 다시 로드한다")
+        void It_RethrowAndReload() {
+            final var loadCount = new AtomicInteger();
+
+            assertThrows(ResourceNotFoundException.class, () -> postResponseCache.get(1L, () -> {
+                loadCount.incrementAndGet();
+                throw new ResourceNotFoundException("Post not found");
+            }));
+            postResponseCache.get(1L, () -> {
+                loadCount.incrementAndGet();
+                return generateTestPost();
+            });
+
+            assertEquals(2, loadCount.get());
+        }
+    }
+
+    @Nested
+    @DisplayName("handlePostUpdated 메서드는")
+    class Describe_handlePostUpdated {
+
+        @Test
+        @DisplayName("해당 게시물의 캐시를 무효화한다")
+        void It_InvalidateEntry() {
+            final var loadCount = new AtomicInteger();
+
+            postResponseCache.get(1L, () -> {
+                loadCount.incrementAndGet();
+                return generateTestPost();
+            });
+            postResponseCache.handlePostUpdated(new PostUpdatedEvent(1L));
+            postResponseCache.get(1L, () -> {
+                loadCount.incrementAndGet();
+                return generateTestPost();
+            });
+
+            assertEquals(2, loadCount.get());
+        }
+
+        /**
+         * Two separate in-memory H2 databases stand in for the primary and a replica that has not
+         * applied the update yet, as in {@code ReplicaRoutingDataSourceTest}.
+         */
+        @Nested
+        @DisplayName("replica 가 아직 수정을 반영하지 못했으면")
+        class Context_with_LaggingReplica {
+
+            private JdbcTemplate jdbcTemplate;
+            private TransactionTemplate readOnlyTransaction;
+
+            @BeforeEach
+            void setUp() {
+                final var primary = h2("post-cache-primary", 2L);
+                final var replica = h2("post-cache-replica", 1L);
+                final var routingDataSource = new ReplicaRoutingDataSource(primary, List.of(replica));
+                routingDataSource.afterPropertiesSet();
+
+                final var dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+                jdbcTemplate = new JdbcTemplate(dataSource);
+                readOnlyTransaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+                readOnlyTransaction.setReadOnly(true);
+            }
+
+            @AfterEach
+            void tearDown() {
+                ReadYourWritesContext.clear();
+            }
+
+            private DataSource h2(String name, long version) {
+                final var dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+                final var template = new JdbcTemplate(dataSource);
+                template.execute("create table if not exists post (id bigint primary key, version bigint)");
+                template.update("merge into post key (id) values (1, ?)", version);
+                return dataSource;
+            }
+
+            private Post loadPost() {
+                return readOnlyTransaction.execute(status -> {
+                    final var post = generateTestPost();
+                    final var version = jdbcTemplate.queryForObject("select version from post where id = 1", Long.class);
+                    ReflectionTestUtils.setField(post, "version", version);
+                    return post;
+                });
+            }
+
+            @Test
+            @DisplayName("다시 채울 때 primary 의 버전을 읽는다")
+            void It_RefillFromPrimary() {
+                //given
+                postResponseCache.handlePostUpdated(new PostUpdatedEvent(1L));
+
+                //when
+                final var renderedPost = postResponseCache.get(1L, this::loadPost);
+
+                //then
+                assertEquals(2L, renderedPost.version().version());
+                assertEquals(1L, loadPost().getVersion());
+            }
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,10 +1,17 @@
 package com.waterfogsw.springbootboardjpa.post.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.waterfogsw.springbootboardjpa.post.cache.PostCountCache;
+import com.waterfogsw.springbootboardjpa.post.cache.PostResponseCache;
 import com.waterfogsw.springbootboardjpa.post.controller.dto.PostResponse;
+import com.waterfogsw.springbootboardjpa.post.controller.dto.PostSummaryResponse;
 import com.waterfogsw.springbootboardjpa.post.entity.Post;
+import com.waterfogsw.springbootboardjpa.post.repository.dto.PostSummary;
+import com.waterfogsw.springbootboardjpa.post.repository.dto.PostVersion;
 import com.waterfogsw.springbootboardjpa.post.service.PostService;
 import com.waterfogsw.springbootboardjpa.post.util.PostConverter;
+import com.waterfogsw.springbootboardjpa.post.util.PostCursor;
+import com.waterfogsw.springbootboardjpa.post.util.PostETag;
 import com.waterfogsw.springbootboardjpa.user.entity.User;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -17,25 +24,37 @@ import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDoc
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.mock.mockito.MockBeans;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders;
 import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
+import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = PostApiController.class)
+@Import(PostResponseCache.class)
 @MockBeans({
         @MockBean(JpaMetamodelMappingContext.class),
 })
@@ -49,6 +68,9 @@ class PostApiControllerTest {
     @MockBean
     private PostService postService;
 
+    @MockBean
+    private PostCountCache postCountCache;
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -236,7 +258,7 @@ class PostApiControllerTest {
                         .content(content);
 
                 final var response = mockMvc.perform(request);
-                verify(postService).updatePost(anyLong(), anyLong(), any());
+                verify(postService).updatePost(anyLong(), anyLong(), any(), isNull());
                 response.andExpect(status().isOk())
                         .andDo(document("post-update",
                                 pathParameters(
@@ -251,6 +273,54 @@ class PostApiControllerTest {
             }
         }
 
+        @Nested
+        @DisplayName("If-Match 헤더가 있으면")
+        class Context_with_IfMatch {
+
+            @Test
+            @DisplayName("ETag 의 버전을 기대 버전으로 전달한다")
+            void It_PassExpectedVersion() throws Exception {
+                final var requestMap = new HashMap<String, Object>();
+                requestMap.put("title", "test");
+                requestMap.put("content", "testContent");
+                requestMap.put("userId", 1);
+
+                final var content = mapper.writeValueAsString(requestMap);
+                final var eTag = PostETag.of(new PostVersion(testPostId, 3L, null));
+
+                final var request = MockMvcRequestBuilders.put(URL + "/" + testPostId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.IF_MATCH, eTag)
+                        .content(content);
+
+                final var response = mockMvc.perform(request);
+
+                verify(postService).updatePost(eq(1L), eq(testPostId), any(), eq(3L));
+                response.andExpect(status().isOk());
+            }
+
+            @Test
+            @DisplayName("다른 게시물의 ETag 이면 PreconditionFailed 를 응답한다")
+            void It_ResponsePreconditionFailed() throws Exception {
+                final var requestMap = new HashMap<String, Object>();
+                requestMap.put("title", "test");
+                requestMap.put("content", "testContent");
+                requestMap.put("userId", 1);
+
+                final var content = mapper.writeValueAsString(requestMap);
+
+                final var request = MockMvcRequestBuilders.put(URL + "/" + testPostId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.IF_MATCH, "\"999-3\"")
+                        .content(content);
+
+                final var response = mockMvc.perform(request);
+
+                verify(postService, never()).updatePost(anyLong(), anyLong(), any(), any());
+                response.andExpect(status().isPreconditionFailed());
+            }
+        }
+
         @Nested
         @DisplayName("id 값이 양수가 아니면")
         class Context_with_NotPositiveId {
@@ -401,7 +471,7 @@ class PostApiControllerTest {
 
                 given(postService.getOne(eq(1L))).willReturn(post);
 
-                final var postResponse = new PostResponse("test", "test", "test", "test");
+                final var postResponse = new PostResponse("test", "test", "test", "test", 0L);
                 given(postConverter.toDto(eq(post))).willReturn(postResponse);
 
                 final var request = RestDocumentationRequestBuilders.get(URL + "/{id}", testGetId);
@@ -416,7 +486,8 @@ class PostApiControllerTest {
                                         fieldWithPath("title").type(JsonFieldType.STRING).description("게시물 제목"),
                                         fieldWithPath("content").type(JsonFieldType.STRING).description("게시물 내용"),
                                         fieldWithPath("userName").type(JsonFieldType.STRING).description("작성자 이름"),
-                                        fieldWithPath("userEmail").type(JsonFieldType.STRING).description("작성자 이메일")
+                                        fieldWithPath("userEmail").type(JsonFieldType.STRING).description("작성자 이메일"),
+                                        fieldWithPath("version").type(JsonFieldType.NUMBER).description("게시물 버전")
                                 )
                         ));
             }
@@ -439,6 +510,192 @@ class PostApiControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("조건부 조회 요청은")
+    class Describe_conditionalGet {
+
+        @Nested
+        @DisplayName("If-None-Match 가 현재 버전과 일치하면")
+        class Context_with_MatchingETag {
+
+            @Test
+            @DisplayName("게시물을 조회하지 않고 NotModified 를 응답한다")
+            void It_ResponseNotModified() throws Exception {
+                final var postId = 2L;
+                final var version = new PostVersion(postId, 1L, LocalDateTime.of(2022, 6, 1, 0, 0));
+                given(postService.getVersion(eq(postId))).willReturn(version);
+
+                final var request = MockMvcRequestBuilders.get(URL + "/" + postId)
+                        .header(HttpHeaders.IF_NONE_MATCH, PostETag.of(version));
+
+                final var response = mockMvc.perform(request);
+
+                verify(postService, never()).getOne(anyLong());
+                response.andExpect(status().isNotModified());
+            }
+        }
+
+        @Nested
+        @DisplayName("If-None-Match 가 현재 버전과 다르면")
+        class Context_with_StaleETag {
+
+            @Test
+            @DisplayName("ETag 와 함께 ok 응답을 반환한다")
+            void It_ResponseOkWithETag() throws Exception {
+                final var postId = 3L;
+                final var version = new PostVersion(postId, 1L, LocalDateTime.of(2022, 6, 1, 0, 0));
+                final var post = Post.builder()
+                        .title("test-title")
+                        .content("test-content")
+                        .build();
+
+                given(postService.getVersion(eq(postId))).willReturn(version);
+                given(postService.getOne(eq(postId))).willReturn(post);
+                given(postConverter.toDto(eq(post))).willReturn(new PostResponse("test", "test", "test", "test", 0L));
+
+                final var request = MockMvcRequestBuilders.get(URL + "/" + postId)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"stale\"");
+
+                final var response = mockMvc.perform(request);
+
+                response.andExpect(status().isOk())
+                        .andExpect(header().string(HttpHeaders.ETAG, PostETag.of(version)));
+            }
+        }
+
+        @Nested
+        @DisplayName("검증 헤더가 없으면")
+        class Context_without_Validator {
+
+            @Test
+            @DisplayName("버전을 따로 조회하지 않고 조회한 게시물의 ETag 를 응답한다")
+            void It_ResponseETagFromLoadedPost() throws Exception {
+                final var postId = 4L;
+                final var post = Post.builder()
+                        .title("test-title")
+                        .content("test-content")
+                        .build();
+                ReflectionTestUtils.setField(post, "version", 2L);
+
+                given(postService.getOne(eq(postId))).willReturn(post);
+                given(postConverter.toDto(eq(post))).willReturn(new PostResponse("test", "test", "test", "test", 2L));
+
+                final var request = MockMvcRequestBuilders.get(URL + "/" + postId);
+
+                final var response = mockMvc.perform(request);
+
+                verify(postService, never()).getVersion(anyLong());
+                response.andExpect(status().isOk())
+                        .andExpect(header().string(HttpHeaders.ETAG, PostETag.of(new PostVersion(postId, 2L, null))));
+            }
+
+            @Test
+            @DisplayName("목록의 버전을 따로 조회하지 않고 조회한 행으로 ETag 를 응답한다")
+            void It_ResponsePageETagFromLoadedRows() throws Exception {
+                final var updatedAt = LocalDateTime.of(2022, 6, 1, 0, 0);
+                final var summary = new PostSummary(1L, "test", "test", "test", updatedAt, 1L, updatedAt);
+                given(postService.getAll(any())).willReturn(new SliceImpl<>(List.of(summary), PageRequest.of(0, 10), false));
+
+                final var request = MockMvcRequestBuilders.get(URL);
+
+                final var response = mockMvc.perform(request);
+
+                verify(postService, never()).getVersions(any());
+                response.andExpect(status().isOk())
+                        .andExpect(header().string(HttpHeaders.ETAG, PostETag.of(List.of(summary.toVersion()))));
+            }
+        }
+
+        @Nested
+        @DisplayName("목록의 If-None-Match 가 현재 페이지 버전과 일치하면")
+        class Context_with_MatchingPageETag {
+
+            @Test
+            @DisplayName("목록을 조회하지 않고 NotModified 를 응답한다")
+            void It_ResponseNotModified() throws Exception {
+                final var versions = List.of(new PostVersion(1L, 1L, LocalDateTime.of(2022, 6, 1, 0, 0)));
+                given(postService.getVersions(any())).willReturn(versions);
+
+                final var request = MockMvcRequestBuilders.get(URL)
+                        .header(HttpHeaders.IF_NONE_MATCH, PostETag.of(versions));
+
+                final var response = mockMvc.perform(request);
+
+                verify(postService, never()).getAll(any());
+                response.andExpect(status().isNotModified());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("getOneSummary 메서드는")
+    class Describe_getOneSummary {
+
+        @Nested
+        @DisplayName("fields=summary 로 요청되면")
+        class Context_with_SummaryFields {
+
+            @Test
+            @DisplayName("본문을 제외한 ok 응답을 반환한다")
+            void It_ResponseOk() throws Exception {
+                final var summary = new PostSummary(1L, "test", "test", "test", LocalDateTime.now());
+                given(postService.getSummary(eq(1L))).willReturn(summary);
+
+                final var summaryResponse = new PostSummaryResponse(1L, "test", null, "test", "test");
+                given(postConverter.toDto(eq(summary))).willReturn(summaryResponse);
+
+                final var request = RestDocumentationRequestBuilders.get(URL + "/{id}", 1L)
+                        .param("fields", "summary");
+                final var response = mockMvc.perform(request);
+
+                verify(postService).getSummary(eq(1L));
+                response.andExpect(status().isOk())
+                        .andExpect(jsonPath("$.excerpt").doesNotExist())
+                        .andDo(document("post-detail-summary",
+                                pathParameters(
+                                        parameterWithName("id").description("게시물 번호")
+                                ),
+                                responseFields(
+                                        fieldWithPath("id").type(JsonFieldType.NUMBER).description("게시물 번호"),
+                                        fieldWithPath("title").type(JsonFieldType.STRING).description("게시물 제목"),
+                                        fieldWithPath("userName").type(JsonFieldType.STRING).description("작성자 이름"),
+                                        fieldWithPath("userEmail").type(JsonFieldType.STRING).description("작성자 이메일")
+                                )
+                        ));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("getAllSummaries 메서드는")
+    class Describe_getAllSummaries {
+
+        @Nested
+        @DisplayName("fields=summary 로 요청되면")
+        class Context_with_SummaryFields {
+
+            @Test
+            @DisplayName("본문을 조회하지 않고 목록 응답과 같은 형태로 ok 응답을 반환한다")
+            void It_ResponseOk() throws Exception {
+                given(postService.getAllSummaries(any())).willReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 10), true));
+
+                final var request = MockMvcRequestBuilders.get(URL)
+                        .param("fields", "summary");
+
+                final var response = mockMvc.perform(request);
+
+                verify(postService).getAllSummaries(any());
+                verify(postCountCache, never()).get();
+                response.andExpect(status().isOk())
+                        .andExpect(jsonPath("$.posts").isArray())
+                        .andExpect(jsonPath("$.page").value(0))
+                        .andExpect(jsonPath("$.size").value(10))
+                        .andExpect(jsonPath("$.hasNext").value(true))
+                        .andExpect(jsonPath("$.total").doesNotExist());
+            }
+        }
+    }
+
     @Nested
     @DisplayName("getAll 메서드는")
     class Describe_getAll {
@@ -448,20 +705,218 @@ class PostApiControllerTest {
         class Context_with_Requested {
 
             @Test
-            @DisplayName("ok 응답을 반환한다")
+            @DisplayName("전체 개수 없이 다음 페이지 여부를 담아 ok 응답을 반환한다")
             void It_ResponseOk() throws Exception {
+                given(postService.getAll(any())).willReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 10), true));
+
                 final var request = MockMvcRequestBuilders.get(URL);
 
                 final var response = mockMvc.perform(request);
 
                 verify(postService).getAll(any());
+                verify(postCountCache, never()).get();
                 response.andExpect(status().isOk())
+                        .andExpect(jsonPath("$.hasNext").value(true))
+                        .andExpect(jsonPath("$.total").doesNotExist())
                         .andDo(document("post-list",
                                 responseFields(
-                                        fieldWithPath("[]").type(JsonFieldType.ARRAY).optional().description("게시물 정보")
+                                        fieldWithPath("posts").type(JsonFieldType.ARRAY).description("게시물 정보"),
+                                        fieldWithPath("page").type(JsonFieldType.NUMBER).description("페이지 번호"),
+                                        fieldWithPath("size").type(JsonFieldType.NUMBER).description("페이지 크기"),
+                                        fieldWithPath("hasNext").type(JsonFieldType.BOOLEAN).description("다음 페이지 존재 여부"),
+                                        fieldWithPath("total").type(JsonFieldType.NUMBER).optional().description("게시물 수 근사값, withTotal=true 일 때만 포함")
+                                )
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("withTotal=true 로 요청되면")
+        class Context_with_WithTotal {
+
+            @Test
+            @DisplayName("캐시된 게시물 수를 함께 응답한다")
+            void It_ResponseWithTotal() throws Exception {
+                given(postService.getAll(any())).willReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 10), false));
+                given(postCountCache.get()).willReturn(42L);
+
+                final var request = MockMvcRequestBuilders.get(URL)
+                        .param("withTotal", "true");
+
+                final var response = mockMvc.perform(request);
+
+                verify(postService, never()).count();
+                response.andExpect(status().isOk())
+                        .andExpect(jsonPath("$.hasNext").value(false))
+                        .andExpect(jsonPath("$.total").value(42));
+            }
+
+            @Test
+            @DisplayName("If-None-Match 가 버전만 일치하면 게시물 수가 반영된 ETag 와 ok 응답을 반환한다")
+            void It_ResponseOkWhenOnlyVersionsMatch() throws Exception {
+                final var updatedAt = LocalDateTime.of(2022, 6, 1, 0, 0);
+                final var summary = new PostSummary(1L, "test", "test", "test", updatedAt, 1L, updatedAt);
+                final var versions = List.of(summary.toVersion());
+                given(postService.getVersions(any())).willReturn(versions);
+                given(postService.getAll(any())).willReturn(new SliceImpl<>(List.of(summary), PageRequest.of(0, 10), false));
+                given(postCountCache.get()).willReturn(42L);
+
+                final var request = MockMvcRequestBuilders.get(URL)
+                        .param("withTotal", "true")
+                        .header(HttpHeaders.IF_NONE_MATCH, PostETag.of(versions));
+
+                final var response = mockMvc.perform(request);
+
+                response.andExpect(status().isOk())
+                        .andExpect(header().string(HttpHeaders.ETAG, PostETag.of(versions, 42L)))
+                        .andExpect(jsonPath("$.total").value(42));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("getAllAfter 메서드는")
+    class Describe_getAllAfter {
+
+        @Nested
+        @DisplayName("after 가 빈 값이면")
+        class Context_with_EmptyCursor {
+
+            @Test
+            @DisplayName("첫 페이지를 조회하고 ok 응답을 반환한다")
+            void It_ResponseOk() throws Exception {
+                given(postService.getAllAfter(isNull(), eq(10))).willReturn(new SliceImpl<>(List.of()));
+
+                final var request = MockMvcRequestBuilders.get(URL)
+                        .param("after", "")
+                        .param("size", "10");
+
+                final var response = mockMvc.perform(request);
+
+                verify(postService).getAllAfter(isNull(), eq(10));
+                response.andExpect(status().isOk())
+                        .andDo(document("post-list-cursor",
+                                requestParameters(
+                                        parameterWithName("after").description("이전 페이지의 nextCursor, 첫 페이지는 빈 값"),
+                                        parameterWithName("size").description("페이지 크기")
+                                ),
+                                responseFields(
+                                        fieldWithPath("posts").type(JsonFieldType.ARRAY).description("게시물 정보"),
+                                        fieldWithPath("nextCursor").type(JsonFieldType.STRING).optional().description("다음 페이지 커서")
+                                )
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("after 가 유효한 커서이면")
+        class Context_with_ValidCursor {
+
+            @Test
+            @DisplayName("커서 이후의 페이지를 조회한다")
+            void It_CallGetAllAfter() throws Exception {
+                final var cursor = new PostCursor(LocalDateTime.of(2022, 6, 1, 0, 0), 5L);
+                given(postService.getAllAfter(eq(cursor), anyInt())).willReturn(new SliceImpl<>(List.of()));
+
+                final var request = MockMvcRequestBuilders.get(URL)
+                        .param("after", cursor.encode());
+
+                final var response = mockMvc.perform(request);
+
+                verify(postService).getAllAfter(eq(cursor), eq(10));
+                response.andExpect(status().isOk());
+            }
+        }
+
+        @Nested
+        @DisplayName("after 가 유효하지 않은 커서이면")
+        class Context_with_InvalidCursor {
+
+            @ParameterizedTest
+            @ValueSource(strings = {"invalid", "!!!"})
+            @DisplayName("BadRequest 를 응답한다")
+            void It_ResponseBadRequest(String src) throws Exception {
+                final var request = MockMvcRequestBuilders.get(URL)
+                        .param("after", src);
+
+                final var response = mockMvc.perform(request);
+
+                response.andExpect(status().isBadRequest());
+            }
+        }
+
+        @Nested
+        @DisplayName("size 가 범위를 벗어나면")
+        class Context_with_OutOfRangeSize {
+
+            @ParameterizedTest
+            @ValueSource(ints = {0, -1, 101})
+            @DisplayName("BadRequest 를 응답한다")
+            void It_ResponseBadRequest(int src) throws Exception {
+                final var request = MockMvcRequestBuilders.get(URL)
+                        .param("after", "")
+                        .param("size", String.valueOf(src));
+
+                final var response = mockMvc.perform(request);
+
+                response.andExpect(status().isBadRequest());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("search 메서드는")
+    class Describe_search {
+
+        @Nested
+        @DisplayName("검색어가 있으면")
+        class Context_with_Query {
+
+            @Test
+            @DisplayName("검색 결과를 순위대로 응답한다")
+            void It_ResponseRankedSummaries() throws Exception {
+                final var summary = new PostSummary(1L, "jpa", "jpa", "test", "test", LocalDateTime.now());
+                given(postService.search(eq("jpa"), any())).willReturn(List.of(summary));
+                given(postConverter.toDto(eq(summary)))
+                        .willReturn(new PostSummaryResponse(1L, "jpa", "jpa", "test", "test"));
+
+                final var request = RestDocumentationRequestBuilders.get(URL + "/search")
+                        .param("q", "jpa")
+                        .param("page", "0")
+                        .param("size", "10");
+
+                final var response = mockMvc.perform(request);
+
+                response.andExpect(status().isOk())
+                        .andExpect(jsonPath("$[0].id").value(1))
+                        .andDo(document("post-search",
+                                requestParameters(
+                                        parameterWithName("q").description("검색어, 제목과 내용에서 찾는다"),
+                                        parameterWithName("page").description("페이지 번호"),
+                                        parameterWithName("size").description("페이지 크기")
                                 )
                         ));
             }
         }
+
+        @Nested
+        @DisplayName("검색어가 비어있으면")
+        class Context_with_BlankQuery {
+
+            @ParameterizedTest
+            @NullAndEmptySource
+            @DisplayName("BadRequest 를 응답한다")
+            void It_ResponseBadRequest(String src) throws Exception {
+                final var request = MockMvcRequestBuilders.get(URL + "/search");
+                if (src != null) {
+                    request.param("q", src);
+                }
+
+                final var response = mockMvc.perform(request);
+
+                verify(postService, never()).search(any(), any());
+                response.andExpect(status().isBadRequest());
+            }
+        }
     }
 }
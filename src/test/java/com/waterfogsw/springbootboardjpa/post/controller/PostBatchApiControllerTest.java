@@ -0,0 +1,233 @@
+package com.waterfogsw.springbootboardjpa.post.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.waterfogsw.springbootboardjpa.post.controller.dto.PostAddRequest;
+import com.waterfogsw.springbootboardjpa.post.entity.Post;
+import com.waterfogsw.springbootboardjpa.post.service.PostService;
+import com.waterfogsw.springbootboardjpa.post.service.dto.PostDraft;
+import com.waterfogsw.springbootboardjpa.post.util.PostConverter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = PostBatchApiController.class)
+@MockBean(JpaMetamodelMappingContext.class)
+class PostBatchApiControllerTest {
+
+    private static final String URL = "/api/v1/posts:batch";
+
+    @MockBean
+    private PostConverter postConverter;
+
+    @MockBean
+    private PostService postService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    @BeforeEach
+    void setUp() {
+        given(postConverter.toEntity(any(PostAddRequest.class))).willAnswer(invocation -> {
+            final PostAddRequest request = invocation.getArgument(0);
+            return Post.builder()
+                    .title(request.title())
+                    .content(request.content())
+                    .build();
+        });
+
+        given(postService.addPosts(any())).willAnswer(invocation -> {
+            final List<PostDraft> drafts = invocation.getArgument(0);
+            drafts.stream()
+                    .filter(draft -> draft.userId() == 1L)
+                    .forEach(draft -> ReflectionTestUtils.setField(draft.post(), "id", 100L));
+            return drafts.stream().map(PostDraft::post).toList();
+        });
+    }
+
+    private Map<String, Object> generateRequestMap(String title, long userId) {
+        final var requestMap = new HashMap<String, Object>();
+        requestMap.put("title", title);
+        requestMap.put("content", "testContent");
+        requestMap.put("userId", userId);
+        return requestMap;
+    }
+
+    @Nested
+    @DisplayName("addPosts 메서드는")
+    class Describe_addPosts {
+
+        @Nested
+        @DisplayName("JSON 배열로 요청되면")
+        class Context_with_JsonArray {
+
+            @Test
+            @DisplayName("항목별 결과를 응답한다")
+            void It_ResponsePerItemResult() throws Exception {
+                final var content = mapper.writeValueAsString(List.of(
+                        generateRequestMap("test", 1L),
+                        generateRequestMap("", 1L),
+                        generateRequestMap("test", 2L)
+                ));
+
+                final var request = MockMvcRequestBuilders.post(URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(content);
+
+                final var response = mockMvc.perform(request);
+
+                response.andExpect(status().isOk())
+                        .andExpect(jsonPath("$[0].status").value(201))
+                        .andExpect(jsonPath("$[0].id").value(100))
+                        .andExpect(jsonPath("$[1].status").value(400))
+                        .andExpect(jsonPath("$[2].status").value(404));
+            }
+        }
+
+        @Nested
+        @DisplayName("NDJSON 으로 요청되면")
+        class Context_with_Ndjson {
+
+            @Test
+            @DisplayName("항목별 결과를 응답한다")
+            void It_ResponsePerItemResult() throws Exception {
+                final var content = mapper.writeValueAsString(generateRequestMap("test", 1L)) + "\n"
+                        + mapper.writeValueAsString(generateRequestMap("test", 1L)) + "\n";
+
+                final var request = MockMvcRequestBuilders.post(URL)
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(content);
+
+                final var response = mockMvc.perform(request);
+
+                response.andExpect(status().isOk())
+                        .andExpect(jsonPath("$.length()").value(2))
+                        .andExpect(jsonPath("$[1].index").value(1))
+                        .andExpect(jsonPath("$[1].status").value(201));
+            }
+        }
+
+        @Nested
+        @DisplayName("형식이 잘못된 항목이 있으면")
+        class Context_with_MalformedItem {
+
+            @Test
+            @DisplayName("앞선 항목을 저장하고 그 결과와 함께 잘못된 항목의 BadRequest 결과를 응답한다")
+            void It_ResponseResultsSoFar() throws Exception {
+                final var content = mapper.writeValueAsString(generateRequestMap("test", 1L)) + "\n"
+                        + "{\"title\": }\n"
+                        + mapper.writeValueAsString(generateRequestMap("test", 1L)) + "\n";
+
+                final var request = MockMvcRequestBuilders.post(URL)
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(content);
+
+                final var response = mockMvc.perform(request);
+
+                verify(postService).addPosts(argThat(drafts -> drafts.size() == 1));
+                response.andExpect(status().isOk())
+                        .andExpect(jsonPath("$.length()").value(2))
+                        .andExpect(jsonPath("$[0].status").value(201))
+                        .andExpect(jsonPath("$[0].id").value(100))
+                        .andExpect(jsonPath("$[1].index").value(1))
+                        .andExpect(jsonPath("$[1].status").value(400))
+                        .andExpect(jsonPath("$[1].message").value("Malformed item, the items after it were not processed"));
+            }
+
+            @Test
+            @DisplayName("첫 항목이 잘못되었으면 아무것도 저장하지 않는다")
+            void It_WriteNothing() throws Exception {
+                final var request = MockMvcRequestBuilders.post(URL)
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"title\": ");
+
+                final var response = mockMvc.perform(request);
+
+                verify(postService, never()).addPosts(any());
+                response.andExpect(status().isOk())
+                        .andExpect(jsonPath("$.length()").value(1))
+                        .andExpect(jsonPath("$[0].index").value(0))
+                        .andExpect(jsonPath("$[0].status").value(400));
+            }
+        }
+
+        @Nested
+        @DisplayName("null 이거나 값을 읽을 수 없는 항목이 있으면")
+        class Context_with_UnreadableItem {
+
+            @Test
+            @DisplayName("그 항목만 BadRequest 로 응답하고 다음 항목을 계속 처리한다")
+            void It_ContinueWithNextItem() throws Exception {
+                final var mismatched = generateRequestMap("test", 1L);
+                mismatched.put("userId", "abc");
+                final var content = "null\n"
+                        + mapper.writeValueAsString(mismatched) + "\n"
+                        + mapper.writeValueAsString(generateRequestMap("test", 1L)) + "\n";
+
+                final var request = MockMvcRequestBuilders.post(URL)
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(content);
+
+                final var response = mockMvc.perform(request);
+
+                verify(postService).addPosts(argThat(drafts -> drafts.size() == 1));
+                response.andExpect(status().isOk())
+                        .andExpect(jsonPath("$.length()").value(3))
+                        .andExpect(jsonPath("$[0].status").value(400))
+                        .andExpect(jsonPath("$[1].status").value(400))
+                        .andExpect(jsonPath("$[1].message").value("userId: unreadable value"))
+                        .andExpect(jsonPath("$[2].index").value(2))
+                        .andExpect(jsonPath("$[2].status").value(201));
+            }
+        }
+
+        @Nested
+        @DisplayName("청크 저장이 실패하면")
+        class Context_with_FailedChunk {
+
+            @Test
+            @DisplayName("그 청크의 항목을 InternalServerError 로 응답한다")
+            void It_ReportChunkItems() throws Exception {
+                given(postService.addPosts(any())).willThrow(new IllegalStateException("Database unavailable"));
+                final var content = mapper.writeValueAsString(List.of(
+                        generateRequestMap("test", 1L),
+                        generateRequestMap("", 1L)
+                ));
+
+                final var request = MockMvcRequestBuilders.post(URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(content);
+
+                final var response = mockMvc.perform(request);
+
+                response.andExpect(status().isOk())
+                        .andExpect(jsonPath("$.length()").value(2))
+                        .andExpect(jsonPath("$[0].status").value(500))
+                        .andExpect(jsonPath("$[1].status").value(400));
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.waterfogsw.springbootboardjpa.post.controller;
+
+import com.waterfogsw.springbootboardjpa.post.controller.dto.PostExportResponse;
+import com.waterfogsw.springbootboardjpa.post.entity.Post;
+import com.waterfogsw.springbootboardjpa.post.service.PostService;
+import com.waterfogsw.springbootboardjpa.post.util.PostConverter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = PostExportApiController.class)
+@MockBean(JpaMetamodelMappingContext.class)
+class PostExportApiControllerTest {
+
+    private static final String URL = "/api/v1/posts/export";
+
+    @MockBean
+    private PostConverter postConverter;
+
+    @MockBean
+    private PostService postService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Nested
+    @DisplayName("exportAll 메서드는")
+    class Describe_exportAll {
+
+        @Nested
+        @DisplayName("요청되면")
+        class Context_with_Requested {
+
+            @Test
+            @DisplayName("게시물을 한 줄에 하나씩 NDJSON 으로 응답한다")
+            void It_ResponseNdjson() throws Exception {
+                final var post1 = Post.builder().title("test1").content("test").build();
+                final var post2 = Post.builder().title("test2").content("test").build();
+
+                willAnswer(invocation -> {
+                    final Consumer<Post> consumer = invocation.getArgument(0);
+                    consumer.accept(post1);
+                    consumer.accept(post2);
+                    return null;
+                }).given(postService).exportAll(any());
+
+                given(postConverter.toExportDto(post1))
+                        .willReturn(new PostExportResponse(1L, "test1", "test", "test", "test", null, null));
+                given(postConverter.toExportDto(post2))
+                        .willReturn(new PostExportResponse(2L, "test2", "test", "test", "test", null, null));
+
+                final var result = mockMvc.perform(MockMvcRequestBuilders.get(URL))
+                        .andExpect(request().asyncStarted())
+                        .andReturn();
+
+                assertEquals(Duration.ofMinutes(30).toMillis(), result.getRequest().getAsyncContext().getTimeout());
+
+                mockMvc.perform(asyncDispatch(result))
+                        .andExpect(status().isOk())
+                        .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                        .andExpect(content().string(
+                                "{\"id\":1,\"title\":\"test1\",\"content\":\"test\",\"userName\":\"test\",\"userEmail\":\"test\",\"createdAt\":null,\"updatedAt\":null}\n"
+                                        + "{\"id\":2,\"title\":\"test2\",\"content\":\"test\",\"userName\":\"test\",\"userEmail\":\"test\",\"createdAt\":null,\"updatedAt\":null}\n"
+                        ));
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.waterfogsw.springbootboardjpa.post.controller;
+
+import com.waterfogsw.springbootboardjpa.common.config.ReactorConfig;
+import com.waterfogsw.springbootboardjpa.post.controller.dto.PostResponse;
+import com.waterfogsw.springbootboardjpa.post.controller.dto.PostSummaryResponse;
+import com.waterfogsw.springbootboardjpa.post.entity.Post;
+import com.waterfogsw.springbootboardjpa.post.repository.dto.PostSummary;
+import com.waterfogsw.springbootboardjpa.post.service.PostService;
+import com.waterfogsw.springbootboardjpa.post.util.PostConverter;
+import com.waterfogsw.springbootboardjpa.post.util.PostCursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = PostReactiveApiController.class)
+@Import(ReactorConfig.class)
+@MockBean(JpaMetamodelMappingContext.class)
+class PostReactiveApiControllerTest {
+
+    private static final String URL = "/api/v2/posts";
+
+    @MockBean
+    private PostConverter postConverter;
+
+    @MockBean
+    private PostService postService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Nested
+    @DisplayName("getOne 메서드는")
+    class Describe_getOne {
+
+        @Nested
+        @DisplayName("id 값이 양수이면")
+        class Context_with_PositiveId {
+
+            @Test
+            @DisplayName("게시물을 응답한다")
+            void It_ResponsePost() throws Exception {
+                final var post = Post.builder().title("test").content("test").build();
+                given(postService.getOne(eq(1L))).willReturn(post);
+                given(postConverter.toDto(eq(post))).willReturn(new PostResponse("test", "test", "test", "test", 0L));
+
+                final var result = mockMvc.perform(MockMvcRequestBuilders.get(URL + "/1"))
+                        .andExpect(request().asyncStarted())
+                        .andReturn();
+
+                mockMvc.perform(asyncDispatch(result))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.title").value("test"))
+                        .andExpect(jsonPath("$.version").value(0));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("getFeed 메서드는")
+    class Describe_getFeed {
+
+        @Nested
+        @DisplayName("다음 페이지가 있으면")
+        class Context_with_NextPage {
+
+            @Test
+            @DisplayName("마지막 게시물의 커서로 다음 페이지를 이어서 응답한다")
+            void It_ResponseAllPages() throws Exception {
+                final var createdAt = LocalDateTime.of(2022, 6, 1, 0, 0);
+                final var summary1 = new PostSummary(2L, "test2", "test", "test", createdAt);
+                final var summary2 = new PostSummary(1L, "test1", "test", "test", createdAt);
+
+                given(postService.getAllAfter(isNull(), eq(1)))
+                        .willReturn(new SliceImpl<>(List.of(summary1), PageRequest.of(0, 1), true));
+                given(postService.getAllAfter(eq(PostCursor.from(summary1)), eq(1)))
+                        .willReturn(new SliceImpl<>(List.of(summary2), PageRequest.of(0, 1), false));
+                given(postConverter.toDto(eq(summary1)))
+                        .willReturn(new PostSummaryResponse(2L, "test2", null, "test", "test"));
+                given(postConverter.toDto(eq(summary2)))
+                        .willReturn(new PostSummaryResponse(1L, "test1", null, "test", "test"));
+
+                final var request = MockMvcRequestBuilders.get(URL)
+                        .accept(MediaType.APPLICATION_NDJSON)
+                        .param("pageSize", "1");
+
+                final var result = mockMvc.perform(request)
+                        .andExpect(request().asyncStarted())
+                        .andReturn();
+
+                mockMvc.perform(asyncDispatch(result))
+                        .andExpect(status().isOk())
+                        .andExpect(content().string(
+                                "{\"id\":2,\"title\":\"test2\",\"userName\":\"test\",\"userEmail\":\"test\"}\n"
+                                        + "{\"id\":1,\"title\":\"test1\",\"userName\":\"test\",\"userEmail\":\"test\"}\n"
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("pageSize 가 100 을 넘으면")
+        class Context_with_TooLargePageSize {
+
+            @Test
+            @DisplayName("BadRequest 를 응답한다")
+            void It_ResponseBadRequest() throws Exception {
+                final var request = MockMvcRequestBuilders.get(URL)
+                        .accept(MediaType.APPLICATION_NDJSON)
+                        .param("pageSize", "101");
+
+                mockMvc.perform(request)
+                        .andExpect(status().isBadRequest());
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.waterfogsw.springbootboardjpa.post.controller;
+
+import com.waterfogsw.springbootboardjpa.common.exception.ResourceNotFoundException;
+import com.waterfogsw.springbootboardjpa.post.controller.dto.PostSummaryResponse;
+import com.waterfogsw.springbootboardjpa.post.repository.dto.PostSummary;
+import com.waterfogsw.springbootboardjpa.post.service.PostService;
+import com.waterfogsw.springbootboardjpa.post.util.PostConverter;
+import com.waterfogsw.springbootboardjpa.post.util.PostCursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders;
+import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = UserPostApiController.class)
+@MockBean(JpaMetamodelMappingContext.class)
+@AutoConfigureRestDocs()
+class UserPostApiControllerTest {
+
+    private static final String URL = "/api/v1/users/{userId}/posts";
+
+    @MockBean
+    private PostConverter postConverter;
+
+    @MockBean
+    private PostService postService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Nested
+    @DisplayName("getAllByAuthor 메서드는")
+    class Describe_getAllByAuthor {
+
+        @Nested
+        @DisplayName("다음 페이지가 있으면")
+        class Context_with_NextPage {
+
+            @Test
+            @DisplayName("게시물과 다음 커서를 응답한다")
+            void It_ResponsePostsWithCursor() throws Exception {
+                final var summary = new PostSummary(3L, "test", "test", "test", LocalDateTime.of(2022, 6, 1, 0, 0));
+                given(postService.getAllByAuthorAfter(eq(1L), isNull(), eq(1)))
+                        .willReturn(new SliceImpl<>(List.of(summary), PageRequest.of(0, 1), true));
+                given(postConverter.toDto(eq(summary)))
+                        .willReturn(new PostSummaryResponse(3L, "test", null, "test", "test"));
+
+                final var request = RestDocumentationRequestBuilders.get(URL, 1L)
+                        .param("size", "1");
+
+                final var response = mockMvc.perform(request);
+
+                response.andExpect(status().isOk())
+                        .andExpect(jsonPath("$.posts[0].id").value(3))
+                        .andExpect(jsonPath("$.nextCursor").value(PostCursor.from(summary).encode()))
+                        .andDo(document("user-post-list",
+                                pathParameters(
+                                        parameterWithName("userId").description("작성자 아이디")
+                                ),
+                                requestParameters(
+                                        parameterWithName("size").description("페이지 크기")
+                                ),
+                                responseFields(
+                                        fieldWithPath("posts[].id").type(JsonFieldType.NUMBER).description("게시물 번호"),
+                                        fieldWithPath("posts[].title").type(JsonFieldType.STRING).description("게시물 제목"),
+                                        fieldWithPath("posts[].userName").type(JsonFieldType.STRING).description("작성자 이름"),
+                                        fieldWithPath("posts[].userEmail").type(JsonFieldType.STRING).description("작성자 이메일"),
+                                        fieldWithPath("nextCursor").type(JsonFieldType.STRING).optional().description("다음 페이지 커서")
+                                )
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("작성자가 존재하지 않으면")
+        class Context_with_NotExistUser {
+
+            @Test
+            @DisplayName("NotFound 를 응답한다")
+            void It_ResponseNotFound() throws Exception {
+                given(postService.getAllByAuthorAfter(eq(1L), isNull(), anyInt()))
+                        .willThrow(new ResourceNotFoundException("User not exist"));
+
+                final var response = mockMvc.perform(MockMvcRequestBuilders.get(URL, 1L));
+
+                response.andExpect(status().isNotFound());
+            }
+        }
+
+        @Nested
+        @DisplayName("after 가 유효하지 않은 커서이면")
+        class Context_with_InvalidCursor {
+
+            @Test
+            @DisplayName("BadRequest 를 응답한다")
+            void It_ResponseBadRequest() throws Exception {
+                final var request = MockMvcRequestBuilders.get(URL, 1L)
+                        .param("after", "invalid");
+
+                final var response = mockMvc.perform(request);
+
+                response.andExpect(status().isBadRequest());
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.waterfogsw.springbootboardjpa.post.repository;
+
+import com.waterfogsw.springbootboardjpa.common.query.QueryCapture;
+import com.waterfogsw.springbootboardjpa.common.query.QueryCaptureConfig;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Builds the schema from the Flyway migrations and lets Hibernate validate it against the entities,
+ * then replays the SQL Hibernate generates for the feed queries through H2 {@code EXPLAIN} to check
+ * they are served by the declared indexes.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@Import(QueryCaptureConfig.class)
+class PostQueryPlanTest {
+
+    @Autowired
+    EntityManager em;
+
+    @Autowired
+    PostRepository postRepository;
+
+    @Autowired
+    QueryCapture queryCapture;
+
+    @BeforeEach
+    void setUp() {
+        queryCapture.clear();
+    }
+
+    @Nested
+    @DisplayName("페이지 피드 쿼리(findSummaries)는")
+    class Describe_findSummaries {
+
+        @Test
+        @DisplayName("created_at, id 인덱스를 정렬 순서대로 스캔한다")
+        void It_scans_created_at_index() {
+            //given
+            final var pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+            //when
+            postRepository.findSummaries(pageable);
+            final var plan = explain(queryCapture.lastSelect());
+
+            //then
+            assertThat(plan)
+                    .contains("IDX_POST_CREATED_AT_ID")
+                    .contains("index sorted");
+        }
+    }
+
+    @Nested
+    @DisplayName("커서 피드 첫 페이지 쿼리(findFirstSlice)는")
+    class Describe_findFirstSlice {
+
+        @Test
+        @DisplayName("created_at, id 인덱스를 정렬 순서대로 스캔한다")
+        void It_scans_created_at_index() {
+            //when
+            postRepository.findFirstSlice(PageRequest.of(0, 10));
+            final var plan = explain(queryCapture.lastSelect());
+
+            //then
+            assertThat(plan)
+                    .contains("IDX_POST_CREATED_AT_ID")
+                    .contains("index sorted");
+        }
+    }
+
+    @Nested
+    @DisplayName("커서 피드 다음 페이지 쿼리(findSliceAfter)는")
+    class Describe_findSliceAfter {
+
+        @Test
+        @DisplayName("커서 조건이 있어도 created_at, id 인덱스를 사용한다")
+        void It_scans_created_at_index_with_cursor() {
+            //when
+            postRepository.findSliceAfter(LocalDateTime.of(2022, 1, 1, 0, 0), 100L, PageRequest.of(0, 10));
+            final var plan = explain(queryCapture.lastSelect());
+
+            //then
+            assertThat(plan).contains("IDX_POST_CREATED_AT_ID");
+        }
+    }
+
+    @Nested
+    @DisplayName("작성자별 피드 쿼리(findFirstSliceByUserId)는")
+    class Describe_findFirstSliceByUserId {
+
+        @Test
+        @DisplayName("user_id, created_at, id 인덱스를 사용한다")
+        void It_scans_user_created_at_index() {
+            //when
+            postRepository.findFirstSliceByUserId(1L, PageRequest.of(0, 10));
+            final var plan = explain(queryCapture.lastSelect());
+
+            //then
+            assertThat(plan)
+                    .contains("IDX_POST_USER_CREATED_AT_ID")
+                    .contains("index sorted");
+        }
+    }
+
+    private String explain(QueryCapture.CapturedQuery query) {
+        return em.unwrap(Session.class).doReturningWork(connection -> {
+            try (final var statement = connection.prepareStatement("explain " + query.sql())) {
+                final var parameters = query.parameters();
+                for (int i = 0; i < parameters.size(); i++) {
+                    statement.setObject(i + 1, parameters.get(i));
+                }
+
+                try (final var resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    return resultSet.getString(1);
+                }
+            }
+        });
+    }
+}
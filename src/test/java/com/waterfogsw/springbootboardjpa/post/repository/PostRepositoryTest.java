@@ -1,19 +1,27 @@
 package com.waterfogsw.springbootboardjpa.post.repository;
 
+import com.waterfogsw.springbootboardjpa.common.query.ExpectedQueries;
+import com.waterfogsw.springbootboardjpa.common.query.QueryCountConfig;
 import com.waterfogsw.springbootboardjpa.post.entity.Post;
 import com.waterfogsw.springbootboardjpa.user.entity.User;
 import com.waterfogsw.springbootboardjpa.user.repository.UserRepository;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageRequest;
 
 import javax.persistence.EntityManager;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DataJpaTest
+@Import(QueryCountConfig.class)
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 class PostRepositoryTest {
 
@@ -40,39 +48,176 @@ class PostRepositoryTest {
 
     @Test
     @Order(1)
+    @ExpectedQueries(select = 1)
     @DisplayName("findById 쿼리 테스트")
     public void findById() {
         //given
-        final var testPost = generateTestPost("test", "test", writer);
-        postRepository.save(testPost);
+        final var saved = postRepository.save(generateTestPost("test", "test", writer));
+        em.flush();
+        em.clear();
+        em.getEntityManagerFactory().getCache().evictAll();
 
         //when
-        final var foundPost = postRepository.findById(1L);
+        final var foundPost = postRepository.findById(saved.getId());
 
         //then
         assertTrue(foundPost.isPresent());
+        assertEquals(writer.getName(), foundPost.get().getUser().getName());
+        assertEquals("test", foundPost.get().getContent());
     }
 
     @Test
-    @Order(2)
-    @DisplayName("findWithPagination 쿼리 테스트")
-    public void findWithPagination() {
+    @Order(3)
+    @ExpectedQueries(select = 2)
+    @DisplayName("findFirstSlice, findSliceAfter 쿼리 테스트")
+    public void findSliceAfter() {
         //given
-        final var testPost1 = generateTestPost("test", "test", writer);
-        final var testPost2 = generateTestPost("test", "test", writer);
+        postRepository.save(generateTestPost("test1", "test", writer));
+        postRepository.save(generateTestPost("test2", "test", writer));
+        postRepository.save(generateTestPost("test3", "test", writer));
+        em.flush();
+        em.clear();
 
-        postRepository.save(testPost1);
-        postRepository.save(testPost2);
+        final var pageRequest = PageRequest.of(0, 2);
+
+        //when
+        final var firstSlice = postRepository.findFirstSlice(pageRequest);
+        final var last = firstSlice.getContent().get(1);
+        final var nextSlice = postRepository.findSliceAfter(last.createdAt(), last.id(), pageRequest);
+
+        //then
+        assertEquals(2, firstSlice.getNumberOfElements());
+        assertTrue(firstSlice.hasNext());
+        assertEquals("test3", firstSlice.getContent().get(0).title());
+        assertEquals(1, nextSlice.getNumberOfElements());
+        assertFalse(nextSlice.hasNext());
+        assertEquals("test1", nextSlice.getContent().get(0).title());
+    }
+
+    @Test
+    @Order(4)
+    @ExpectedQueries(select = 1)
+    @DisplayName("findSummaries 쿼리 테스트")
+    public void findSummaries() {
+        //given
+        final var content = "c".repeat(300);
+        postRepository.save(generateTestPost("test", content, writer));
 
         final var pageRequest = PageRequest.of(0, 10);
 
         //when
-        final var posts = postRepository.findWithPagination(pageRequest);
+        final var summaries = postRepository.findSummaries(pageRequest);
+
+        //then
+        assertEquals(1, summaries.getNumberOfElements());
+        assertFalse(summaries.hasNext());
+        assertEquals(200, summaries.getContent().get(0).excerpt().length());
+        assertEquals(writer.getName(), summaries.getContent().get(0).userName());
+        assertEquals(writer.getEmail(), summaries.getContent().get(0).userEmail());
+        assertNotNull(summaries.getContent().get(0).version());
+    }
+
+    @Test
+    @Order(5)
+    @ExpectedQueries(select = 2)
+    @DisplayName("findSummaryById, findHeaders 쿼리 테스트")
+    public void findHeaders() {
+        //given
+        final var saved = postRepository.save(generateTestPost("test", "test", writer));
+
+        final var pageRequest = PageRequest.of(0, 10);
+
+        //when
+        final var summary = postRepository.findSummaryById(saved.getId());
+        final var headers = postRepository.findHeaders(pageRequest);
+
+        //then
+        assertTrue(summary.isPresent());
+        assertNull(summary.get().excerpt());
+        assertEquals(saved.getVersion(), summary.get().version());
+        assertEquals(1, headers.getNumberOfElements());
+        assertNull(headers.getContent().get(0).excerpt());
+        assertEquals(saved.getVersion(), headers.getContent().get(0).version());
+    }
+
+    @Test
+    @Order(6)
+    @ExpectedQueries(select = 1)
+    @DisplayName("streamAll 쿼리 테스트")
+    public void streamAll() {
+        //given
+        postRepository.save(generateTestPost("test1", "content1", writer));
+        postRepository.save(generateTestPost("test2", "content2", writer));
+        em.flush();
+        em.clear();
+
+        //when
+        final List<Post> posts;
+        try (final var stream = postRepository.streamAll()) {
+            posts = stream.toList();
+        }
 
         //then
         assertEquals(2, posts.size());
-        assertTrue(em.contains(posts.get(0).getUser()));
-        assertTrue(em.contains(posts.get(1).getUser()));
+        assertEquals("content1", posts.get(0).getContent());
+        assertEquals(writer.getName(), posts.get(0).getUser().getName());
+    }
+
+    @Test
+    @Order(7)
+    @ExpectedQueries(select = 1, update = 1)
+    @DisplayName("게시물 수정 쿼리 테스트")
+    public void update() {
+        //given
+        final var saved = postRepository.save(generateTestPost("test", "test", writer));
+        em.flush();
+        em.clear();
+
+        final var version = saved.getVersion();
+
+        //when
+        final var post = postRepository.findById(saved.getId()).orElseThrow();
+        post.update("updated", "updated");
+        em.flush();
+
+        //then
+        assertEquals(version + 1, post.getVersion());
+        assertEquals("updated", post.getTitle());
+    }
+
+    @Test
+    @Order(8)
+    @ExpectedQueries(select = 2)
+    @DisplayName("findFirstSliceByUserId, findSliceByUserIdAfter 쿼리 테스트")
+    public void findSliceByUserIdAfter() {
+        //given
+        final var other = userRepository.save(User.builder()
+                .name("other")
+                .email("other@naver.com")
+                .build());
+
+        postRepository.save(generateTestPost("test1", "test", writer));
+        postRepository.save(generateTestPost("other", "test", other));
+        postRepository.save(generateTestPost("test2", "test", writer));
+        postRepository.save(generateTestPost("test3", "test", writer));
+        em.flush();
+        em.clear();
+
+        final var pageRequest = PageRequest.of(0, 2);
+
+        //when
+        final var firstSlice = postRepository.findFirstSliceByUserId(writer.getId(), pageRequest);
+        final var last = firstSlice.getContent().get(1);
+        final var nextSlice = postRepository.findSliceByUserIdAfter(writer.getId(), last.createdAt(), last.id(), pageRequest);
+
+        //then
+        assertEquals(2, firstSlice.getNumberOfElements());
+        assertTrue(firstSlice.hasNext());
+        assertEquals("test3", firstSlice.getContent().get(0).title());
+        assertEquals(1, nextSlice.getNumberOfElements());
+        assertFalse(nextSlice.hasNext());
+        assertEquals("test1", nextSlice.getContent().get(0).title());
+        assertNull(nextSlice.getContent().get(0).excerpt());
     }
 
     private Post generateTestPost(String title, String content, User writer) {
@@ -0,0 +1,106 @@
+package com.waterfogsw.springbootboardjpa.post.search;
+
+import com.waterfogsw.springbootboardjpa.post.repository.PostRepository;
+import com.waterfogsw.springbootboardjpa.post.repository.dto.PostSummary;
+import com.waterfogsw.springbootboardjpa.post.service.DefaultPostService;
+import com.waterfogsw.springbootboardjpa.post.service.PostService;
+import com.waterfogsw.springbootboardjpa.user.cache.UserCache;
+import com.waterfogsw.springbootboardjpa.user.entity.User;
+import com.waterfogsw.springbootboardjpa.user.repository.UserRepository;
+import com.waterfogsw.springbootboardjpa.user.service.DefaultUserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Rows are inserted with native SQL so that automatic indexing never sees them, as with rows that
+ * existed before the index directory.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.search.automatic_indexing.synchronization.strategy=sync")
+@Import({DefaultPostService.class, DefaultUserService.class, UserCache.class, PostMassIndexer.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PostMassIndexerTest {
+
+    @Autowired
+    PostMassIndexer postMassIndexer;
+
+    @Autowired
+    PostService postService;
+
+    @Autowired
+    PostRepository postRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    EntityManager em;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    private User writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = userRepository.save(User.builder()
+                .name("test")
+                .email("test@naver.com")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        postRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("인덱스에 없는 기존 게시물을 색인해 검색되게 한다")
+    void indexPreExistingRows() {
+        //given
+        insertWithoutIndexing(1_000_001L, "legacy post", "written before the index");
+        insertWithoutIndexing(1_000_002L, "another legacy post", "also before the index");
+        assertTrue(postService.search("legacy", PageRequest.of(0, 10)).isEmpty());
+
+        //when
+        postMassIndexer.reindex().toCompletableFuture().join();
+
+        //then
+        final var ids = postService.search("legacy", PageRequest.of(0, 10)).stream()
+                .map(PostSummary::id)
+                .collect(Collectors.toList());
+        assertThat(ids).containsExactlyInAnyOrder(1_000_001L, 1_000_002L);
+    }
+
+    private void insertWithoutIndexing(long id, String title, String content) {
+        final var now = LocalDateTime.now();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> em.createNativeQuery("""
+                        insert into post (id, created_at, updated_at, version, title, content, user_id)
+                        values (?, ?, ?, 0, ?, ?, ?)
+                        """)
+                .setParameter(1, id)
+                .setParameter(2, now)
+                .setParameter(3, now)
+                .setParameter(4, title)
+                .setParameter(5, content)
+                .setParameter(6, writer.getId())
+                .executeUpdate());
+    }
+}
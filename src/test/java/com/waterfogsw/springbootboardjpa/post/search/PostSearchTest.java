@@ -0,0 +1,100 @@
+package com.waterfogsw.springbootboardjpa.post.search;
+
+import com.waterfogsw.springbootboardjpa.post.entity.Post;
+import com.waterfogsw.springbootboardjpa.post.repository.PostRepository;
+import com.waterfogsw.springbootboardjpa.post.repository.dto.PostSummary;
+import com.waterfogsw.springbootboardjpa.post.service.DefaultPostService;
+import com.waterfogsw.springbootboardjpa.post.service.PostService;
+import com.waterfogsw.springbootboardjpa.user.cache.UserCache;
+import com.waterfogsw.springbootboardjpa.user.entity.User;
+import com.waterfogsw.springbootboardjpa.user.repository.UserRepository;
+import com.waterfogsw.springbootboardjpa.user.service.DefaultUserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The index is only written on commit, so these tests run without the test transaction and clean
+ * up after themselves.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.search.automatic_indexing.synchronization.strategy=sync")
+@Import({DefaultPostService.class, DefaultUserService.class, UserCache.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PostSearchTest {
+
+    @Autowired
+    PostService postService;
+
+    @Autowired
+    PostRepository postRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    private User writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = userRepository.save(User.builder()
+                .name("test")
+                .email("test@naver.com")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        postRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("제목에서 찾은 게시물을 내용에서 찾은 게시물보다 앞에 반환한다")
+    void searchRanksTitleFirst() {
+        //given
+        postService.addPost(writer.getId(), post("spring boot", "jpa in the content"));
+        postService.addPost(writer.getId(), post("jpa tuning", "batch size"));
+        postService.addPost(writer.getId(), post("unrelated", "nothing here"));
+
+        //when
+        final var results = postService.search("jpa", PageRequest.of(0, 10));
+
+        //then
+        assertEquals(2, results.size());
+        assertEquals("jpa tuning", results.get(0).title());
+    }
+
+    @Test
+    @DisplayName("수정된 게시물은 커밋 후 새 내용으로 검색된다")
+    void searchSeesUpdatedPost() {
+        //given
+        final var post = post("before", "old content");
+        postService.addPost(writer.getId(), post);
+
+        //when
+        postService.updatePost(writer.getId(), post.getId(), post("after", "fresh content"));
+
+        //then
+        assertTrue(postService.search("old", PageRequest.of(0, 10)).isEmpty());
+        assertEquals(post.getId(), postService.search("fresh", PageRequest.of(0, 10)).stream()
+                .map(PostSummary::id)
+                .findFirst()
+                .orElseThrow());
+    }
+
+    private static Post post(String title, String content) {
+        return Post.builder()
+                .title(title)
+                .content(content)
+                .build();
+    }
+}
@@ -0,0 +1,223 @@
+package com.waterfogsw.springbootboardjpa.post.service;
+
+import com.waterfogsw.springbootboardjpa.common.query.ExpectedQueries;
+import com.waterfogsw.springbootboardjpa.common.query.QueryCountConfig;
+import com.waterfogsw.springbootboardjpa.post.entity.Post;
+import com.waterfogsw.springbootboardjpa.post.repository.PostRepository;
+import com.waterfogsw.springbootboardjpa.post.service.dto.PostDraft;
+import com.waterfogsw.springbootboardjpa.user.cache.UserCache;
+import com.waterfogsw.springbootboardjpa.user.entity.User;
+import com.waterfogsw.springbootboardjpa.user.repository.UserRepository;
+import com.waterfogsw.springbootboardjpa.user.service.DefaultUserService;
+import com.waterfogsw.springbootboardjpa.user.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Pins the number of statements each service read and write issues against a real database, so a
+ * change to a fetch plan shows up as a failing count.
+ */
+@DataJpaTest
+@Import({DefaultPostService.class, DefaultUserService.class, UserCache.class, QueryCountConfig.class})
+class DefaultPostServiceQueryTest {
+
+    @Autowired
+    EntityManager em;
+
+    @Autowired
+    PostService postService;
+
+    @Autowired
+    PostRepository postRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    UserService userService;
+
+    private User writer;
+    private Post saved;
+
+    @BeforeEach
+    void setUp() {
+        writer = userRepository.save(User.builder()
+                .name("test")
+                .email("test@naver.com")
+                .build());
+
+        for (int i = 0; i < 3; i++) {
+            final var post = Post.builder()
+                    .title("test" + i)
+                    .content("test" + i)
+                    .build();
+            post.updateAuthor(writer);
+            saved = postRepository.save(post);
+        }
+
+        em.flush();
+        em.clear();
+        em.getEntityManagerFactory().getCache().evictAll();
+    }
+
+    @Test
+    @ExpectedQueries(select = 1)
+    @DisplayName("getOne 은 게시물과 본문, 작성자를 한 번에 조회한다")
+    void getOne() {
+        //when
+        final var post = postService.getOne(saved.getId());
+
+        //then
+        assertEquals(writer.getName(), post.getUser().getName());
+        assertEquals(saved.getContent(), post.getContent());
+    }
+
+    @Nested
+    @DisplayName("게시물이 2차 캐시에 있으면")
+    class Context_with_cached_post {
+
+        @BeforeEach
+        void setUp() {
+            postService.getOne(saved.getId());
+            em.clear();
+        }
+
+        @Test
+        @ExpectedQueries(select = 0)
+        @DisplayName("getOne 은 본문까지 캐시에서 읽고 조회하지 않는다")
+        void It_reads_from_cache() {
+            //when
+            final var post = postService.getOne(saved.getId());
+
+            //then
+            assertEquals(saved.getContent(), post.getContent());
+            assertEquals(writer.getName(), post.getUser().getName());
+        }
+
+        @Test
+        @ExpectedQueries(select = 0, update = 1)
+        @DisplayName("updatePost 는 캐시에서 읽고 버전 조건으로 한 번 수정한다")
+        void It_updates_without_select() {
+            //given
+            final var post = Post.builder()
+                    .title("updated")
+                    .content("updated")
+                    .build();
+
+            //when
+            postService.updatePost(writer.getId(), saved.getId(), post);
+        }
+    }
+
+    @Test
+    @ExpectedQueries(select = 1)
+    @DisplayName("getAll 은 작성자 수와 관계없이 한 번 조회한다")
+    void getAll() {
+        //when
+        final var summaries = postService.getAll(PageRequest.of(0, 10));
+
+        //then
+        assertEquals(3, summaries.getNumberOfElements());
+        assertFalse(summaries.hasNext());
+    }
+
+    @Test
+    @ExpectedQueries(select = 1)
+    @DisplayName("getAllAfter 는 count 쿼리 없이 한 번 조회한다")
+    void getAllAfter() {
+        //when
+        final var slice = postService.getAllAfter(null, 2);
+
+        //then
+        assertEquals(2, slice.getNumberOfElements());
+    }
+
+    @Test
+    @ExpectedQueries(select = 0, insert = 1)
+    @DisplayName("addPost 는 작성자를 조회하지 않고 저장한다")
+    void addPost() {
+        //given
+        final var post = Post.builder()
+                .title("new")
+                .content("new")
+                .build();
+
+        //when
+        postService.addPost(writer.getId(), post);
+
+        //then
+        assertNotNull(post.getId());
+    }
+
+    @Test
+    @ExpectedQueries(select = 1, insert = 1)
+    @DisplayName("addPosts 는 작성자를 한 번에 조회하고 배치로 저장한다")
+    void addPosts() {
+        //given
+        final var drafts = List.of(
+                new PostDraft(writer.getId(), Post.builder().title("new1").content("new1").build()),
+                new PostDraft(writer.getId(), Post.builder().title("new2").content("new2").build())
+        );
+
+        //when
+        final var added = postService.addPosts(drafts);
+
+        //then
+        assertEquals(2, added.size());
+    }
+
+    @Test
+    @ExpectedQueries(select = 1, update = 1)
+    @DisplayName("updatePost 는 게시물을 한 번 조회하고 버전 조건으로 한 번 수정한다")
+    void updatePost() {
+        //given
+        final var post = Post.builder()
+                .title("updated")
+                .content("updated")
+                .build();
+
+        //when
+        postService.updatePost(writer.getId(), saved.getId(), post);
+    }
+
+    @Nested
+    @DisplayName("작성자가 캐시에 있으면")
+    class Context_with_cached_author {
+
+        @BeforeEach
+        void setUp() {
+            userService.getSnapshot(writer.getId());
+            em.clear();
+        }
+
+        @Test
+        @ExpectedQueries(select = 0, insert = 1)
+        @DisplayName("addPosts 는 작성자를 조회하지 않고 배치로 저장한다")
+        void It_skips_author_lookup() {
+            //given
+            final var drafts = List.of(
+                    new PostDraft(writer.getId(), Post.builder().title("new1").content("new1").build()),
+                    new PostDraft(writer.getId(), Post.builder().title("new2").content("new2").build())
+            );
+
+            //when
+            final var added = postService.addPosts(drafts);
+
+            //then
+            assertEquals(2, added.size());
+        }
+    }
+}
@@ -1,11 +1,18 @@
 package com.waterfogsw.springbootboardjpa.post.service;
 
 import com.waterfogsw.springbootboardjpa.common.exception.AuthenticationException;
+import com.waterfogsw.springbootboardjpa.common.exception.PreconditionFailedException;
 import com.waterfogsw.springbootboardjpa.common.exception.ResourceNotFoundException;
 import com.waterfogsw.springbootboardjpa.post.entity.Post;
+import com.waterfogsw.springbootboardjpa.post.event.PostUpdatedEvent;
 import com.waterfogsw.springbootboardjpa.post.repository.PostRepository;
+import com.waterfogsw.springbootboardjpa.post.repository.dto.PostSummary;
+import com.waterfogsw.springbootboardjpa.post.repository.dto.PostVersion;
+import com.waterfogsw.springbootboardjpa.post.service.dto.PostDraft;
+import com.waterfogsw.springbootboardjpa.post.util.PostCursor;
 import com.waterfogsw.springbootboardjpa.user.entity.User;
 import com.waterfogsw.springbootboardjpa.user.service.UserService;
+import com.waterfogsw.springbootboardjpa.user.service.dto.UserSnapshot;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -15,14 +22,29 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import javax.persistence.EntityManager;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -35,6 +57,12 @@ class DefaultPostServiceTest {
     @Mock
     PostRepository postRepository;
 
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    EntityManager em;
+
     @InjectMocks
     DefaultPostService defaultPostService;
 
@@ -52,6 +80,16 @@ class DefaultPostServiceTest {
                 .build();
     }
 
+    private Post generateSavedPost(long authorId, long version) {
+        final var author = generateTestUser("test", "test@naver.com");
+        ReflectionTestUtils.setField(author, "id", authorId);
+
+        final var post = generateTestPost("test", "test");
+        post.updateAuthor(author);
+        ReflectionTestUtils.setField(post, "version", version);
+        return post;
+    }
+
     @Nested
     @DisplayName("addPost 메서드는")
     class Describe_addPost {
@@ -68,15 +106,38 @@ class DefaultPostServiceTest {
                 final var testUser = generateTestUser("test", "test@naver.com");
                 final var testPost = generateTestPost("test", "test");
 
-                given(userService.getOne(anyLong())).willReturn(testUser);
-                given(postRepository.save(any(Post.class))).willReturn(testPost);
+                given(userService.getReference(anyLong())).willReturn(testUser);
+                given(postRepository.saveAndFlush(any(Post.class))).willReturn(testPost);
 
                 //when
                 defaultPostService.addPost(userId, testPost);
 
                 //then
                 assertNotNull(testPost.getUser());
-                verify(postRepository).save(any(Post.class));
+                verify(userService, never()).getSnapshot(anyLong());
+                verify(postRepository).saveAndFlush(any(Post.class));
+            }
+        }
+
+        @Nested
+        @DisplayName("작성자가 존재하지 않아 외래키 제약조건을 위반하면")
+        class Context_with_NotExistAuthor {
+
+            @Test
+            @DisplayName("ResourceNotFoundException 이 발생한다")
+            void It_ThrowsResourceNotFoundException() {
+                //given
+                final var testPost = generateTestPost("test", "test");
+                final var violation = new ConstraintViolationException(
+                        "violation", new SQLException(), "\"FK_POST_USER: PUBLIC.POST FOREIGN KEY(USER_ID)");
+
+                given(userService.getReference(anyLong())).willReturn(generateTestUser("test", "test@naver.com"));
+                given(postRepository.saveAndFlush(any(Post.class)))
+                        .willThrow(new DataIntegrityViolationException("violation", violation));
+
+                //when, then
+                assertThrows(ResourceNotFoundException.class,
+                        () -> defaultPostService.addPost(1L, testPost));
             }
         }
 
@@ -114,6 +175,53 @@ class DefaultPostServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("addPosts 메서드는")
+    class Describe_addPosts {
+
+        @Nested
+        @DisplayName("작성자가 존재하는 draft 는")
+        class Context_with_ExistingAuthor {
+
+            @Test
+            @DisplayName("저장하고, 작성자가 존재하지 않는 draft 는 건너뛴다")
+            void It_SaveOnlyDraftsWithAuthor() {
+                //given
+                final var testUser = generateTestUser("test", "test@naver.com");
+                ReflectionTestUtils.setField(testUser, "id", 1L);
+
+                final var validDraft = new PostDraft(1L, generateTestPost("test", "test"));
+                final var orphanDraft = new PostDraft(2L, generateTestPost("test", "test"));
+
+                given(userService.getSnapshots(any())).willReturn(Map.of(1L, UserSnapshot.from(testUser)));
+                given(userService.getReference(1L)).willReturn(testUser);
+
+                //when
+                final var saved = defaultPostService.addPosts(List.of(validDraft, orphanDraft));
+
+                //then
+                assertEquals(List.of(validDraft.post()), saved);
+                assertEquals(testUser, validDraft.post().getUser());
+                assertNull(orphanDraft.post().getUser());
+                verify(postRepository).save(validDraft.post());
+                verify(em).flush();
+            }
+        }
+
+        @Nested
+        @DisplayName("drafts 가 null 이면")
+        class Context_with_NullDrafts {
+
+            @Test
+            @DisplayName("IllegalArgumentException 이 발생한다")
+            void It_ThrowsIllegalArgumentException() {
+                //when, then
+                assertThrows(IllegalArgumentException.class,
+                        () -> defaultPostService.addPosts(null));
+            }
+        }
+    }
+
     @Nested
     @DisplayName("getOne 메서드는")
     class Describe_getOne {
@@ -169,6 +277,173 @@ class DefaultPostServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("getSummary 메서드는")
+    class Describe_getSummary {
+
+        @Nested
+        @DisplayName("id 값이 양수이고, 해당 엔티티가 존재하면")
+        class Context_with_PositiveIdAndEntityExist {
+
+            @Test
+            @DisplayName("본문을 제외한 요약을 반환한다")
+            void It_ResponseSummary() {
+                //given
+                final var summary = new PostSummary(1L, "test", "test", "test@naver.com", LocalDateTime.now());
+                given(postRepository.findSummaryById(anyLong())).willReturn(Optional.of(summary));
+
+                //when
+                final var result = defaultPostService.getSummary(1L);
+
+                //then
+                assertEquals(summary, result);
+            }
+        }
+
+        @Nested
+        @DisplayName("id 값이 양수이고, 해당 엔티티가 존재하지 않으면")
+        class Context_with_PositiveIdAndEntityNotExist {
+
+            @Test
+            @DisplayName("ResourceNotFoundException 이 발생한다")
+            void It_ThrowsResourceNotFoundException() {
+                //given
+                given(postRepository.findSummaryById(anyLong())).willReturn(Optional.empty());
+
+                //when, then
+                assertThrows(ResourceNotFoundException.class, () -> defaultPostService.getSummary(1L));
+            }
+        }
+
+        @Nested
+        @DisplayName("id 값이 양수가 아닌경우")
+        class Context_with_NotPositiveId {
+
+            @ParameterizedTest
+            @ValueSource(longs = {0, -1, Long.MIN_VALUE})
+            @DisplayName("IllegalArgumentException 이 발생한다")
+            void It_ThrowsIllegalArgumentException(long src) {
+                //when, then
+                assertThrows(IllegalArgumentException.class,
+                        () -> defaultPostService.getSummary(src));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("getAllByAuthorAfter 메서드는")
+    class Describe_getAllByAuthorAfter {
+
+        @Nested
+        @DisplayName("cursor 가 null 이면")
+        class Context_with_NullCursor {
+
+            @Test
+            @DisplayName("작성자의 첫 페이지를 조회한다")
+            void It_CallFindFirstSliceByUserId() {
+                //when
+                defaultPostService.getAllByAuthorAfter(1L, null, 10);
+
+                //then
+                verify(postRepository).findFirstSliceByUserId(eq(1L), any(Pageable.class));
+            }
+        }
+
+        @Nested
+        @DisplayName("cursor 가 존재하면")
+        class Context_with_Cursor {
+
+            @Test
+            @DisplayName("작성자의 cursor 이후 페이지를 조회한다")
+            void It_CallFindSliceByUserIdAfter() {
+                //given
+                final var cursor = new PostCursor(LocalDateTime.now(), 1L);
+
+                //when
+                defaultPostService.getAllByAuthorAfter(1L, cursor, 10);
+
+                //then
+                verify(postRepository)
+                        .findSliceByUserIdAfter(eq(1L), eq(cursor.createdAt()), eq(cursor.id()), any(Pageable.class));
+            }
+        }
+
+        @Nested
+        @DisplayName("작성자가 존재하지 않으면")
+        class Context_with_NotExistUser {
+
+            @Test
+            @DisplayName("ResourceNotFoundException 이 발생한다")
+            void It_ThrowsResourceNotFoundException() {
+                //given
+                given(userService.getSnapshot(anyLong())).willThrow(new ResourceNotFoundException("User not exist"));
+
+                //when, then
+                assertThrows(ResourceNotFoundException.class,
+                        () -> defaultPostService.getAllByAuthorAfter(1L, null, 10));
+                verify(postRepository, never()).findFirstSliceByUserId(anyLong(), any());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("search 메서드는")
+    class Describe_search {
+
+        @Nested
+        @DisplayName("검색어가 비어있으면")
+        class Context_with_BlankQuery {
+
+            @ParameterizedTest
+            @ValueSource(strings = {"", " "})
+            @DisplayName("IllegalArgumentException 이 발생한다")
+            void It_ThrowIllegalArgumentException(String src) {
+                //when, then
+                assertThrows(IllegalArgumentException.class,
+                        () -> defaultPostService.search(src, Pageable.ofSize(10)));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("getVersion 메서드는")
+    class Describe_getVersion {
+
+        @Nested
+        @DisplayName("id 값이 양수이고, 해당 엔티티가 존재하면")
+        class Context_with_PositiveIdAndEntityExist {
+
+            @Test
+            @DisplayName("버전을 반환한다")
+            void It_ResponseVersion() {
+                //given
+                final var version = new PostVersion(1L, 3L, LocalDateTime.now());
+                given(postRepository.findVersionById(anyLong())).willReturn(Optional.of(version));
+
+                //when
+                final var result = defaultPostService.getVersion(1L);
+
+                //then
+                assertEquals(version, result);
+            }
+        }
+
+        @Nested
+        @DisplayName("id 값이 양수이고, 해당 엔티티가 존재하지 않으면")
+        class Context_with_PositiveIdAndEntityNotExist {
+
+            @Test
+            @DisplayName("ResourceNotFoundException 이 발생한다")
+            void It_ThrowsResourceNotFoundException() {
+                //given
+                given(postRepository.findVersionById(anyLong())).willReturn(Optional.empty());
+
+                //when, then
+                assertThrows(ResourceNotFoundException.class, () -> defaultPostService.getVersion(1L));
+            }
+        }
+    }
+
     @Nested
     @DisplayName("getAll 메서드는")
     class Context_with_getAll {
@@ -183,6 +458,90 @@ class DefaultPostServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("getAllAfter 메서드는")
+    class Describe_getAllAfter {
+
+        @Nested
+        @DisplayName("cursor 가 null 이면")
+        class Context_with_NullCursor {
+
+            @Test
+            @DisplayName("첫 페이지를 조회한다")
+            void It_CallFindFirstSlice() {
+                //when
+                defaultPostService.getAllAfter(null, 10);
+
+                //then
+                verify(postRepository).findFirstSlice(any(Pageable.class));
+            }
+        }
+
+        @Nested
+        @DisplayName("cursor 가 존재하면")
+        class Context_with_Cursor {
+
+            @Test
+            @DisplayName("cursor 이후의 페이지를 조회한다")
+            void It_CallFindSliceAfter() {
+                //given
+                final var cursor = new PostCursor(LocalDateTime.now(), 1L);
+
+                //when
+                defaultPostService.getAllAfter(cursor, 10);
+
+                //then
+                verify(postRepository).findSliceAfter(eq(cursor.createdAt()), eq(cursor.id()), any(Pageable.class));
+            }
+        }
+
+        @Nested
+        @DisplayName("size 가 양수가 아니면")
+        class Context_with_NotPositiveSize {
+
+            @ParameterizedTest
+            @ValueSource(ints = {0, -1, Integer.MIN_VALUE})
+            @DisplayName("IllegalArgumentException 이 발생한다")
+            void It_ThrowsIllegalArgumentException(int src) {
+                //when, then
+                assertThrows(IllegalArgumentException.class,
+                        () -> defaultPostService.getAllAfter(null, src));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("exportAll 메서드는")
+    class Describe_exportAll {
+
+        @Test
+        @DisplayName("모든 게시물을 전달하고 영속성 컨텍스트에서 분리한다")
+        void It_ConsumeAndDetach() {
+            //given
+            final var post1 = generateTestPost("test1", "test");
+            final var post2 = generateTestPost("test2", "test");
+            given(postRepository.streamAll()).willReturn(Stream.of(post1, post2));
+
+            final var consumed = new ArrayList<Post>();
+
+            //when
+            defaultPostService.exportAll(consumed::add);
+
+            //then
+            assertEquals(List.of(post1, post2), consumed);
+            verify(em).detach(post1);
+            verify(em).detach(post2);
+        }
+
+        @Test
+        @DisplayName("consumer 가 null 이면 IllegalArgumentException 이 발생한다")
+        void It_ThrowsIllegalArgumentException() {
+            //when, then
+            assertThrows(IllegalArgumentException.class,
+                    () -> defaultPostService.exportAll(null));
+        }
+    }
+
     @Nested
     @DisplayName("updatePost 메서드는")
     class Describe_updatePost {
@@ -196,23 +555,19 @@ class DefaultPostServiceTest {
             @DisplayName("해당 post 를 업데이트 한다")
             void It_UpdatePost(long src) {
                 //given
-                final var testUser = generateTestUser("test", "test@naver.com");
                 final var updatePost = generateTestPost("updatedTitle", "updatedContent");
-                final var savedPost = generateTestPost("test", "test");
-
-                ReflectionTestUtils.setField(testUser, "id", src);
-                ReflectionTestUtils.setField(savedPost, "id", src);
-                savedPost.updateAuthor(testUser);
+                final var origin = generateSavedPost(src, 0L);
 
-                when(userService.getOne(anyLong())).thenReturn(testUser);
-                when(postRepository.findById(anyLong())).thenReturn(Optional.of(savedPost));
+                when(postRepository.findById(src)).thenReturn(Optional.of(origin));
 
                 //when
                 defaultPostService.updatePost(src, src, updatePost);
 
                 // then
-                assertEquals("updatedTitle", updatePost.getTitle());
-                assertEquals("updatedContent", updatePost.getContent());
+                assertEquals("updatedTitle", origin.getTitle());
+                assertEquals("updatedContent", origin.getContent());
+                verify(postRepository).flush();
+                verify(eventPublisher).publishEvent(new PostUpdatedEvent(src));
             }
         }
 
@@ -281,26 +636,72 @@ class DefaultPostServiceTest {
                 final var updatingUserId = 2L;
                 final var savedPostId = 1L;
 
-                final var updatingUser = generateTestUser("test", "test@naver.com");
-                final var originUser = generateTestUser("test", "test@naver.com");
+                final var updatePost = generateTestPost("updatedTitle", "updatedContent");
+
+                when(postRepository.findById(savedPostId)).thenReturn(Optional.of(generateSavedPost(originUserId, 0L)));
+
+                //when, then
+                assertThrows(AuthenticationException.class,
+                        () -> defaultPostService.updatePost(updatingUserId, savedPostId, updatePost));
+            }
+        }
+
+        @Nested
+        @DisplayName("게시글이 존재하지 않으면")
+        class Context_with_NotExistPost {
 
-                ReflectionTestUtils.setField(updatingUser, "id", updatingUserId);
-                ReflectionTestUtils.setField(originUser, "id", originUserId);
+            @Test
+            @DisplayName("ResourceNotFoundException 예외가 발생한다")
+            void It_ResponseResourceNotFoundException() {
+                //given
+                final var updatePost = generateTestPost("updatedTitle", "updatedContent");
+
+                when(postRepository.findById(anyLong())).thenReturn(Optional.empty());
+
+                //when, then
+                assertThrows(ResourceNotFoundException.class,
+                        () -> defaultPostService.updatePost(1L, 1L, updatePost));
+            }
+        }
+
+        @Nested
+        @DisplayName("기대한 버전이 현재 버전과 다르면")
+        class Context_with_StaleVersion {
 
+            @Test
+            @DisplayName("PreconditionFailedException 예외가 발생한다")
+            void It_ResponsePreconditionFailedException() {
+                //given
                 final var updatePost = generateTestPost("updatedTitle", "updatedContent");
-                final var savedPost = generateTestPost("test", "test");
 
-                ReflectionTestUtils.setField(savedPost, "id", savedPostId);
-                savedPost.updateAuthor(originUser);
+                when(postRepository.findById(1L)).thenReturn(Optional.of(generateSavedPost(1L, 2L)));
+
+                //when, then
+                assertThrows(PreconditionFailedException.class,
+                        () -> defaultPostService.updatePost(1L, 1L, updatePost, 1L));
+                verify(postRepository, never()).flush();
+                verify(eventPublisher, never()).publishEvent(any());
+            }
+        }
 
-                when(userService.getOne(anyLong())).thenReturn(updatingUser);
-                when(postRepository.findById(anyLong())).thenReturn(Optional.of(savedPost));
+        @Nested
+        @DisplayName("기대한 버전으로 읽었지만 그 사이 다른 수정이 커밋되면")
+        class Context_with_ConcurrentUpdate {
+
+            @Test
+            @DisplayName("PreconditionFailedException 예외가 발생한다")
+            void It_ResponsePreconditionFailedException() {
+                //given
+                final var updatePost = generateTestPost("updatedTitle", "updatedContent");
+
+                when(postRepository.findById(1L)).thenReturn(Optional.of(generateSavedPost(1L, 1L)));
+                doThrow(new ObjectOptimisticLockingFailureException(Post.class, 1L)).when(postRepository).flush();
 
                 //when, then
-                assertThrows(AuthenticationException.class,
-                        () -> defaultPostService.updatePost(updatingUserId, savedPostId, updatePost));
+                assertThrows(PreconditionFailedException.class,
+                        () -> defaultPostService.updatePost(1L, 1L, updatePost, 1L));
+                verify(eventPublisher, never()).publishEvent(any());
             }
         }
-        
     }
 }
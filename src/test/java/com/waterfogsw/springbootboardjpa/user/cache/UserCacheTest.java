@@ -0,0 +1,86 @@
+package com.waterfogsw.springbootboardjpa.user.cache;
+
+import com.waterfogsw.springbootboardjpa.user.service.dto.UserSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UserCacheTest {
+
+    private static final UserSnapshot SNAPSHOT = new UserSnapshot(1L, "test", "test@naver.com");
+
+    private UserCache userCache;
+
+    @BeforeEach
+    void setUp() {
+        userCache = new UserCache(100, Duration.ofMinutes(1));
+    }
+
+    @Nested
+    @DisplayName("getAll 메서드는")
+    class Describe_getAll {
+
+        @Test
+        @DisplayName("캐시에 없는 id 만 한 번에 적재하고 적재되지 않은 id 는 제외한다")
+        void It_LoadMissesOnce() {
+            final var loaded = new ArrayList<Set<Long>>();
+            userCache.put(SNAPSHOT);
+
+            final var found = userCache.getAll(List.of(1L, 2L, 3L), ids -> {
+                loaded.add(ids);
+                return Map.of(2L, new UserSnapshot(2L, "test2", "test2@naver.com"));
+            });
+
+            assertEquals(Set.of(1L, 2L), found.keySet());
+            assertEquals(List.of(Set.of(2L, 3L)), loaded);
+        }
+    }
+
+    @Nested
+    @DisplayName("getByEmail 메서드는")
+    class Describe_getByEmail {
+
+        @Test
+        @DisplayName("id 로 적재된 스냅샷을 이메일 인덱스로 찾는다")
+        void It_UseEmailIndex() {
+            final var loads = new AtomicInteger();
+            userCache.get(1L, id -> SNAPSHOT);
+
+            final var found = userCache.getByEmail(SNAPSHOT.email(), email -> {
+                loads.incrementAndGet();
+                return SNAPSHOT;
+            });
+
+            assertEquals(SNAPSHOT, found);
+            assertEquals(0, loads.get());
+        }
+    }
+
+    @Nested
+    @DisplayName("isEmailTaken 메서드는")
+    class Describe_isEmailTaken {
+
+        @Test
+        @DisplayName("put 이나 적재로 인덱스에 들어간 이메일만 사용 중으로 본다")
+        void It_ReportIndexedEmails() {
+            userCache.put(SNAPSHOT);
+            userCache.getAll(List.of(2L), ids -> Map.of(2L, new UserSnapshot(2L, "test2", "test2@naver.com")));
+
+            assertTrue(userCache.isEmailTaken(SNAPSHOT.email()));
+            assertTrue(userCache.isEmailTaken("test2@naver.com"));
+            assertFalse(userCache.isEmailTaken("unknown@naver.com"));
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.waterfogsw.springbootboardjpa.user.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.waterfogsw.springbootboardjpa.common.exception.ConflictException;
+import com.waterfogsw.springbootboardjpa.user.controller.dto.UserAddRequest;
+import com.waterfogsw.springbootboardjpa.user.entity.User;
+import com.waterfogsw.springbootboardjpa.user.service.UserService;
+import com.waterfogsw.springbootboardjpa.user.util.UserConverter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = UserBatchApiController.class)
+@MockBean(JpaMetamodelMappingContext.class)
+class UserBatchApiControllerTest {
+
+    private static final String URL = "/api/v1/users:batch";
+    private static final String TAKEN_EMAIL = "taken@naver.com";
+
+    @MockBean
+    private UserConverter userConverter;
+
+    @MockBean
+    private UserService userService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    @BeforeEach
+    void setUp() {
+        given(userConverter.toEntity(any(UserAddRequest.class))).willAnswer(invocation -> {
+            final UserAddRequest request = invocation.getArgument(0);
+            return User.builder()
+                    .name(request.name())
+                    .email(request.email())
+                    .build();
+        });
+
+        given(userService.addUsers(any())).willAnswer(invocation -> {
+            final List<User> users = invocation.getArgument(0);
+            users.stream()
+                    .filter(user -> !TAKEN_EMAIL.equals(user.getEmail()))
+                    .forEach(user -> ReflectionTestUtils.setField(user, "id", 100L));
+            return users;
+        });
+    }
+
+    private Map<String, Object> generateRequestMap(String name, String email) {
+        final var requestMap = new HashMap<String, Object>();
+        requestMap.put("name", name);
+        requestMap.put("email", email);
+        requestMap.put("age", 10);
+        requestMap.put("hobby", "test");
+        return requestMap;
+    }
+
+    @Nested
+    @DisplayName("addUsers 메서드는")
+    class Describe_addUsers {
+
+        @Nested
+        @DisplayName("JSON 배열로 요청되면")
+        class Context_with_JsonArray {
+
+            @Test
+            @DisplayName("항목별 결과를 응답한다")
+            void It_ResponsePerItemResult() throws Exception {
+                final var content = mapper.writeValueAsString(List.of(
+                        generateRequestMap("test", "test@naver.com"),
+                        generateRequestMap("test", "invalid"),
+                        generateRequestMap("test", TAKEN_EMAIL)
+                ));
+
+                final var request = MockMvcRequestBuilders.post(URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(content);
+
+                final var response = mockMvc.perform(request);
+
+                response.andExpect(status().isOk())
+                        .andExpect(jsonPath("$[0].status").value(201))
+                        .andExpect(jsonPath("$[0].id").value(100))
+                        .andExpect(jsonPath("$[1].status").value(400))
+                        .andExpect(jsonPath("$[2].status").value(409));
+            }
+        }
+
+        @Nested
+        @DisplayName("NDJSON 으로 요청되면")
+        class Context_with_Ndjson {
+
+            @Test
+            @DisplayName("항목별 결과를 응답한다")
+            void It_ResponsePerItemResult() throws Exception {
+                final var content = mapper.writeValueAsString(generateRequestMap("test", "test1@naver.com")) + "\n"
+                        + mapper.writeValueAsString(generateRequestMap("test", "test2@naver.com")) + "\n";
+
+                final var request = MockMvcRequestBuilders.post(URL)
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(content);
+
+                final var response = mockMvc.perform(request);
+
+                response.andExpect(status().isOk())
+                        .andExpect(jsonPath("$.length()").value(2))
+                        .andExpect(jsonPath("$[1].index").value(1))
+                        .andExpect(jsonPath("$[1].status").value(201));
+            }
+        }
+
+        @Nested
+        @DisplayName("동시 가입으로 청크가 충돌하면")
+        class Context_with_ConcurrentRegistration {
+
+            @Test
+            @DisplayName("청크를 다시 검사해 충돌한 항목만 Conflict 로 응답한다")
+            void It_ResponseConflictForRacedItem() throws Exception {
+                final var answer = new AtomicInteger();
+                given(userService.addUsers(any())).willAnswer(invocation -> {
+                    if (answer.getAndIncrement() == 0) {
+                        throw new ConflictException("Email already exists");
+                    }
+                    final List<User> users = invocation.getArgument(0);
+                    users.stream()
+                            .filter(user -> !TAKEN_EMAIL.equals(user.getEmail()))
+                            .forEach(user -> ReflectionTestUtils.setField(user, "id", 100L));
+                    return users;
+                });
+
+                final var content = mapper.writeValueAsString(List.of(
+                        generateRequestMap("test", "test@naver.com"),
+                        generateRequestMap("test", TAKEN_EMAIL)
+                ));
+
+                final var request = MockMvcRequestBuilders.post(URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(content);
+
+                final var response = mockMvc.perform(request);
+
+                verify(userService, times(2)).addUsers(any());
+                response.andExpect(status().isOk())
+                        .andExpect(jsonPath("$[0].status").value(201))
+                        .andExpect(jsonPath("$[0].id").value(100))
+                        .andExpect(jsonPath("$[1].status").value(409));
+            }
+
+            @Test
+            @DisplayName("다시 충돌하면 항목별로 가입시켜 충돌한 항목만 Conflict 로 응답한다")
+            void It_RegisterEachItem() throws Exception {
+                given(userService.addUsers(any())).willThrow(new ConflictException("Email already exists"));
+                willAnswer(invocation -> {
+                    final User user = invocation.getArgument(0);
+                    if (TAKEN_EMAIL.equals(user.getEmail())) {
+                        throw new ConflictException("Email already exists");
+                    }
+                    ReflectionTestUtils.setField(user, "id", 100L);
+                    return null;
+                }).given(userService).addUser(any());
+
+                final var content = mapper.writeValueAsString(List.of(
+                        generateRequestMap("test", "test@naver.com"),
+                        generateRequestMap("test", TAKEN_EMAIL)
+                ));
+
+                final var request = MockMvcRequestBuilders.post(URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(content);
+
+                final var response = mockMvc.perform(request);
+
+                verify(userService, times(2)).addUser(any());
+                response.andExpect(status().isOk())
+                        .andExpect(jsonPath("$[0].status").value(201))
+                        .andExpect(jsonPath("$[1].status").value(409));
+            }
+        }
+
+        @Nested
+        @DisplayName("형식이 잘못된 본문이면")
+        class Context_with_MalformedBody {
+
+            @Test
+            @DisplayName("잘못된 항목의 BadRequest 결과를 응답한다")
+            void It_ResponseBadRequestItem() throws Exception {
+                final var request = MockMvcRequestBuilders.post(URL)
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"name\": ");
+
+                final var response = mockMvc.perform(request);
+
+                response.andExpect(status().isOk())
+                        .andExpect(jsonPath("$[0].index").value(0))
+                        .andExpect(jsonPath("$[0].status").value(400));
+            }
+        }
+    }
+}
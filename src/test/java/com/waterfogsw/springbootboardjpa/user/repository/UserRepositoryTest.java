@@ -1,20 +1,31 @@
 package com.waterfogsw.springbootboardjpa.user.repository;
 
+import com.waterfogsw.springbootboardjpa.common.query.ExpectedQueries;
+import com.waterfogsw.springbootboardjpa.common.query.QueryCountConfig;
 import com.waterfogsw.springbootboardjpa.user.entity.User;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import javax.persistence.EntityManager;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
+@Import(QueryCountConfig.class)
 class UserRepositoryTest {
 
+    @Autowired
+    EntityManager em;
+
     @Autowired
     UserRepository userRepository;
 
     @Test
+    @ExpectedQueries(select = 0)
     @DisplayName("save 메서드 테스트")
     public void save() {
         // given
@@ -29,4 +40,46 @@ class UserRepositoryTest {
         // then
         assertThat(saved).isNotNull();
     }
+
+    @Test
+    @ExpectedQueries(select = 1)
+    @DisplayName("findById 는 조회한 엔티티를 2차 캐시에 저장한다")
+    public void findByIdCachesEntity() {
+        // given
+        final var user = User.builder()
+                .name("test")
+                .email("test@naver.com")
+                .build();
+
+        final var saved = userRepository.save(user);
+        em.flush();
+        em.clear();
+
+        final var cache = em.getEntityManagerFactory().getCache();
+        cache.evictAll();
+
+        // when
+        userRepository.findById(saved.getId());
+
+        // then
+        assertThat(cache.contains(User.class, saved.getId())).isTrue();
+    }
+
+    @Test
+    @ExpectedQueries(select = 1)
+    @DisplayName("findEmailsIn 은 한 번의 쿼리로 이미 존재하는 이메일을 조회한다")
+    public void findEmailsIn() {
+        // given
+        userRepository.save(User.builder()
+                .name("test")
+                .email("test@naver.com")
+                .build());
+        em.flush();
+
+        // when
+        final var emails = userRepository.findEmailsIn(List.of("test@naver.com", "new@naver.com"));
+
+        // then
+        assertThat(emails).containsExactly("test@naver.com");
+    }
 }
@@ -0,0 +1,109 @@
+package com.waterfogsw.springbootboardjpa.user.service;
+
+import com.waterfogsw.springbootboardjpa.common.query.ExpectedQueries;
+import com.waterfogsw.springbootboardjpa.common.query.QueryCountConfig;
+import com.waterfogsw.springbootboardjpa.user.cache.UserCache;
+import com.waterfogsw.springbootboardjpa.user.entity.User;
+import com.waterfogsw.springbootboardjpa.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Pins the number of statements the user service issues against a real database, alongside
+ * {@code DefaultPostServiceQueryTest}.
+ */
+@DataJpaTest
+@Import({DefaultUserService.class, UserCache.class, QueryCountConfig.class})
+class DefaultUserServiceQueryTest {
+
+    @Autowired
+    EntityManager em;
+
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    private User saved;
+
+    @BeforeEach
+    void setUp() {
+        saved = userRepository.save(User.builder()
+                .name("test")
+                .email("test@naver.com")
+                .build());
+
+        em.flush();
+        em.clear();
+        em.getEntityManagerFactory().getCache().evictAll();
+    }
+
+    @Test
+    @ExpectedQueries(select = 1, insert = 1)
+    @DisplayName("addUsers 는 이메일을 한 번에 확인하고 배치로 저장한다")
+    void addUsers() {
+        //given
+        final var taken = User.builder()
+                .name("taken")
+                .email(saved.getEmail())
+                .build();
+        final var users = List.of(
+                User.builder().name("new1").email("new1@naver.com").build(),
+                User.builder().name("new2").email("new2@naver.com").build(),
+                taken
+        );
+
+        //when
+        final var added = userService.addUsers(users);
+
+        //then
+        assertEquals(2, added.size());
+        assertNull(taken.getId());
+    }
+
+    @Test
+    @ExpectedQueries(select = 1)
+    @DisplayName("getSnapshot 은 캐시에 없으면 한 번 조회한다")
+    void getSnapshot() {
+        //when
+        final var snapshot = userService.getSnapshot(saved.getId());
+
+        //then
+        assertEquals(saved.getName(), snapshot.name());
+    }
+
+    @Nested
+    @DisplayName("사용자가 캐시에 있으면")
+    class Context_with_cached_user {
+
+        @BeforeEach
+        void setUp() {
+            userService.getSnapshot(saved.getId());
+            em.clear();
+            em.getEntityManagerFactory().getCache().evictAll();
+        }
+
+        @Test
+        @ExpectedQueries(select = 0)
+        @DisplayName("getSnapshot 은 조회하지 않는다")
+        void It_reads_from_cache() {
+            //when
+            final var snapshot = userService.getSnapshot(saved.getId());
+
+            //then
+            assertEquals(saved.getEmail(), snapshot.email());
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package com.waterfogsw.springbootboardjpa.user.service;
 
+import com.waterfogsw.springbootboardjpa.common.exception.ConflictException;
 import com.waterfogsw.springbootboardjpa.common.exception.ResourceNotFoundException;
+import com.waterfogsw.springbootboardjpa.user.cache.UserCache;
 import com.waterfogsw.springbootboardjpa.user.entity.User;
 import com.waterfogsw.springbootboardjpa.user.repository.UserRepository;
+import com.waterfogsw.springbootboardjpa.user.service.dto.UserSnapshot;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -11,13 +15,26 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import javax.persistence.EntityManager;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -27,6 +44,12 @@ class DefaultUserServiceTest {
     @Mock
     UserRepository userRepository;
 
+    @Mock
+    EntityManager em;
+
+    @Spy
+    UserCache userCache = new UserCache(100, Duration.ofMinutes(1));
+
     @InjectMocks
     DefaultUserService defaultUserService;
 
@@ -39,16 +62,73 @@ class DefaultUserServiceTest {
         class Context_with_arg_not_null {
 
             @Test
-            @DisplayName("repository 의 save 메서드를 호출한다")
+            @DisplayName("repository 의 saveAndFlush 메서드를 호출한다")
             void It_throw_exception() {
                 final var user = User.builder()
                         .name("test")
                         .email("test@naver.com")
                         .build();
+                when(userRepository.saveAndFlush(user)).thenAnswer(invocation -> assignId(user, 1L));
+
+                defaultUserService.addUser(user);
+
+                verify(userRepository).saveAndFlush(any(User.class));
+            }
+
+            @Test
+            @DisplayName("저장한 사용자를 id 와 이메일로 캐시에 넣는다")
+            void It_WriteThrough() {
+                final var user = User.builder()
+                        .name("test")
+                        .email("test@naver.com")
+                        .build();
+                when(userRepository.saveAndFlush(user)).thenAnswer(invocation -> assignId(user, 1L));
 
                 defaultUserService.addUser(user);
+                final var snapshot = defaultUserService.getSnapshotByEmail("test@naver.com");
+
+                assertEquals(1L, snapshot.id());
+                verify(userRepository, never()).findById(anyLong());
+                verify(userRepository, never()).findByEmail(any());
+            }
+        }
+
+        @Nested
+        @DisplayName("캐시된 이메일인 경우")
+        class Context_with_cached_email {
+
+            @Test
+            @DisplayName("저장하지 않고 ConflictException 예외를 던진다")
+            void It_throw_ConflictException_without_insert() {
+                userCache.put(new UserSnapshot(1L, "test", "test@naver.com"));
+                final var user = User.builder()
+                        .name("other")
+                        .email("test@naver.com")
+                        .build();
+
+                assertThrows(ConflictException.class, () -> defaultUserService.addUser(user));
+                verify(userRepository, never()).saveAndFlush(any(User.class));
+            }
+        }
+
+        @Nested
+        @DisplayName("이메일이 이미 존재하는 경우")
+        class Context_with_duplicated_email {
 
-                verify(userRepository).save(any(User.class));
+            @Test
+            @DisplayName("ConflictException 예외를 던진다")
+            void It_throw_ConflictException() {
+                final var user = User.builder()
+                        .name("test")
+                        .email("test@naver.com")
+                        .build();
+
+                final var violation = new ConstraintViolationException(
+                        "duplicated", new SQLException(), "PUBLIC.UK_USER_EMAIL_INDEX_2");
+                when(userRepository.saveAndFlush(any(User.class)))
+                        .thenThrow(new DataIntegrityViolationException("duplicated", violation));
+
+                assertThrows(ConflictException.class, () -> defaultUserService.addUser(user));
             }
         }
 
@@ -66,40 +146,160 @@ class DefaultUserServiceTest {
     }
 
     @Nested
-    @DisplayName("getOne 메서드는")
-    class Describe_getOne {
+    @DisplayName("addUsers 메서드는")
+    class Describe_addUsers {
 
         @Nested
-        @DisplayName("id 값이 양수이고, 엔티티가 존재하면")
-        class Context_with_PositiveId {
+        @DisplayName("이미 존재하거나 배치 안에서 중복된 이메일이 있으면")
+        class Context_with_duplicated_emails {
 
-            @ParameterizedTest
-            @ValueSource(longs = {1, Long.MAX_VALUE})
-            @DisplayName("findById 메서드를 호출한다")
-            void It_CallFindById(long src) {
+            @Test
+            @DisplayName("한 번의 조회로 확인하고 중복된 사용자는 건너뛴다")
+            void It_skip_duplicated_users() {
+                final var user = User.builder().name("test").email("test@naver.com").build();
+                final var taken = User.builder().name("taken").email("taken@naver.com").build();
+                final var repeated = User.builder().name("repeated").email("test@naver.com").build();
+
+                when(userRepository.findEmailsIn(anyCollection())).thenReturn(List.of("taken@naver.com"));
+                when(userRepository.save(user)).thenAnswer(invocation -> assignId(user, 1L));
+
+                final var saved = defaultUserService.addUsers(List.of(user, taken, repeated));
+
+                assertEquals(List.of(user), saved);
+                assertNull(taken.getId());
+                verify(userRepository).findEmailsIn(anyCollection());
+                verify(userRepository).save(user);
+                verify(userRepository, times(1)).save(any(User.class));
+                verify(userRepository).flush();
+            }
+        }
+
+        @Nested
+        @DisplayName("캐시된 이메일이 있으면")
+        class Context_with_cached_emails {
+
+            @Test
+            @DisplayName("캐시에 없는 이메일만 조회한다")
+            void It_query_only_unknown_emails() {
+                userCache.put(new UserSnapshot(1L, "taken", "taken@naver.com"));
+                final var user = User.builder().name("test").email("test@naver.com").build();
+                final var taken = User.builder().name("taken").email("taken@naver.com").build();
+
+                when(userRepository.findEmailsIn(Set.of("test@naver.com"))).thenReturn(List.of());
+                when(userRepository.save(user)).thenAnswer(invocation -> assignId(user, 2L));
+
+                final var saved = defaultUserService.addUsers(List.of(user, taken));
+
+                assertEquals(List.of(user), saved);
+                verify(userRepository).findEmailsIn(Set.of("test@naver.com"));
+            }
+        }
+
+        @Nested
+        @DisplayName("인자가 null 인 경우")
+        class Context_with_null_arg {
+
+            @Test
+            @DisplayName("IllegalArgumentException 예외를 던진다")
+            void It_throw_IllegalArgumentException() {
+                assertThrows(IllegalArgumentException.class, () -> defaultUserService.addUsers(null));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("getSnapshot 메서드는")
+    class Describe_getSnapshot {
+
+        @Nested
+        @DisplayName("같은 id 로 반복해서 조회하면")
+        class Context_with_RepeatedId {
+
+            @Test
+            @DisplayName("처음 한 번만 repository 를 조회한다")
+            void It_LoadOnce() {
                 final var user = User.builder()
                         .name("test")
                         .email("test@naver.com")
                         .build();
+                ReflectionTestUtils.setField(user, "id", 1L);
 
-                when(userRepository.findById(any())).thenReturn(Optional.of(user));
+                when(userRepository.findById(1L)).thenReturn(Optional.of(user));
 
-                defaultUserService.getOne(src);
-                verify(userRepository).findById(anyLong());
+                final var first = defaultUserService.getSnapshot(1L);
+                final var second = defaultUserService.getSnapshot(1L);
+                final var byEmail = defaultUserService.getSnapshotByEmail("test@naver.com");
+
+                assertEquals(first, second);
+                assertEquals(first, byEmail);
+                verify(userRepository, times(1)).findById(1L);
+                verify(userRepository, never()).findByEmail(any());
             }
         }
 
         @Nested
-        @DisplayName("id 값이 양수이고, 해당 엔티티가 존재하지 않으면")
+        @DisplayName("해당 엔티티가 존재하지 않으면")
         class Context_with_NotExist {
 
-            @ParameterizedTest
-            @ValueSource(longs = {1, Long.MAX_VALUE})
+            @Test
             @DisplayName("ResourceNotFoundException 이 발생한다")
-            void It_ThrowsResourceNotFoundException(long src) {
-                when(userRepository.findById(any())).thenReturn(Optional.empty());
+            void It_ThrowsResourceNotFoundException() {
+                when(userRepository.findById(1L)).thenReturn(Optional.empty());
 
-                assertThrows(ResourceNotFoundException.class, () -> defaultUserService.getOne(src));
+                assertThrows(ResourceNotFoundException.class, () -> defaultUserService.getSnapshot(1L));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("getSnapshots 메서드는")
+    class Describe_getSnapshots {
+
+        @Nested
+        @DisplayName("일부 사용자가 캐시에 있으면")
+        class Context_with_PartiallyCached {
+
+            @Test
+            @DisplayName("캐시에 없는 id 만 한 번에 조회하고 존재하지 않는 id 는 제외한다")
+            void It_LoadMissesOnce() {
+                final var cached = User.builder()
+                        .name("cached")
+                        .email("cached@naver.com")
+                        .build();
+                ReflectionTestUtils.setField(cached, "id", 1L);
+                final var missed = User.builder()
+                        .name("missed")
+                        .email("missed@naver.com")
+                        .build();
+                ReflectionTestUtils.setField(missed, "id", 2L);
+
+                when(userRepository.findById(1L)).thenReturn(Optional.of(cached));
+                when(userRepository.findAllById(Set.of(2L, 3L))).thenReturn(List.of(missed));
+                defaultUserService.getSnapshot(1L);
+
+                final var snapshots = defaultUserService.getSnapshots(List.of(1L, 2L, 3L));
+
+                assertEquals(Set.of(1L, 2L), snapshots.keySet());
+                verify(userRepository, times(1)).findAllById(Set.of(2L, 3L));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("getReference 메서드는")
+    class Describe_getReference {
+
+        @Nested
+        @DisplayName("id 값이 양수이면")
+        class Context_with_PositiveId {
+
+            @Test
+            @DisplayName("조회 없이 참조를 반환한다")
+            void It_CallGetById() {
+                defaultUserService.getReference(1L);
+
+                verify(userRepository).getById(1L);
+                verify(userRepository, never()).findById(anyLong());
             }
         }
 
@@ -111,8 +311,13 @@ class DefaultUserServiceTest {
             @ValueSource(longs = {0, -1, Long.MIN_VALUE})
             @DisplayName("IllegalArgumentException 이 발생한다")
             void It_ThrowsIllegalArgumentException(long src) {
-                assertThrows(IllegalArgumentException.class, () -> defaultUserService.getOne(src));
+                assertThrows(IllegalArgumentException.class, () -> defaultUserService.getReference(src));
             }
         }
     }
+
+    private static User assignId(User user, long id) {
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
 }